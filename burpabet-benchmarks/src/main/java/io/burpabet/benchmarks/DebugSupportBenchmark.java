@@ -0,0 +1,118 @@
+package io.burpabet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.springframework.data.util.Pair;
+
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.BetType;
+import io.burpabet.common.domain.Jurisdiction;
+import io.burpabet.common.domain.Status;
+import io.burpabet.common.shell.DebugSupport;
+import io.burpabet.common.util.Money;
+
+/**
+ * Journey completion log formatting, logged at info level by the saga join of every
+ * placement, settlement and registration. The logger hands the message to a blackhole
+ * so that formatting is not eliminated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DebugSupportBenchmark {
+    private Pair<String, AbstractJourney> left;
+
+    private Pair<String, AbstractJourney> right;
+
+    @Setup
+    public void setup() {
+        left = Pair.of("Wallet", placement("wallet-service"));
+        right = Pair.of("Customer", placement("customer-service"));
+    }
+
+    private static BetPlacement placement(String origin) {
+        BetPlacement placement = new BetPlacement();
+        placement.setEventId(UUID.randomUUID());
+        placement.setEntityId(UUID.randomUUID());
+        placement.setStatus(Status.APPROVED);
+        placement.setStatusDetail("Within spending budget");
+        placement.setOrigin(origin);
+        placement.setJurisdiction(Jurisdiction.SE);
+        placement.setCustomerId(UUID.randomUUID());
+        placement.setCustomerName("Alice");
+        placement.setRaceId(UUID.randomUUID());
+        placement.setStake(Money.of("12.50", Money.USD));
+        placement.setBetType(BetType.win);
+        return placement;
+    }
+
+    @Benchmark
+    public void logJourneyCompletion(Blackhole blackhole) {
+        DebugSupport.logJourneyCompletion(new BlackholeLogger(blackhole),
+                "Bet placement", left, right, Status.APPROVED);
+    }
+
+    private static class BlackholeLogger extends LegacyAbstractLogger {
+        private final transient Blackhole blackhole;
+
+        BlackholeLogger(Blackhole blackhole) {
+            this.blackhole = blackhole;
+            this.name = "benchmark";
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            blackhole.consume(messagePattern);
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.burpabet.benchmarks;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.JacksonUtils;
+
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.BetPlacementEvent;
+import io.burpabet.common.domain.BetSettlement;
+import io.burpabet.common.domain.BetSettlementEvent;
+import io.burpabet.common.domain.BetType;
+import io.burpabet.common.domain.EventType;
+import io.burpabet.common.domain.Jurisdiction;
+import io.burpabet.common.domain.Registration;
+import io.burpabet.common.domain.RegistrationEvent;
+import io.burpabet.common.domain.Status;
+import io.burpabet.common.serde.BinaryPayloadCodec;
+import io.burpabet.common.serde.JsonPayloadCodec;
+import io.burpabet.common.util.Money;
+
+/**
+ * Outbox event round-trips through the JSON codec, which every service pays for on
+ * every saga event, with the binary codec placement round-trip as a reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventJsonBenchmark {
+    private final JsonPayloadCodec jsonCodec = new JsonPayloadCodec(JacksonUtils.enhancedObjectMapper());
+
+    private final BinaryPayloadCodec binaryCodec = new BinaryPayloadCodec();
+
+    private BetPlacementEvent placementEvent;
+
+    private BetSettlementEvent settlementEvent;
+
+    private RegistrationEvent registrationEvent;
+
+    private byte[] placementJson;
+
+    private byte[] settlementJson;
+
+    private byte[] registrationJson;
+
+    private byte[] placementBinary;
+
+    @Setup
+    public void setup() {
+        BetPlacement placement = new BetPlacement();
+        populate(placement);
+        placement.setCustomerId(UUID.randomUUID());
+        placement.setCustomerName("Alice");
+        placement.setRaceId(UUID.randomUUID());
+        placement.setStake(Money.of("12.50", Money.USD));
+        placement.setBetType(BetType.each_way);
+        placementEvent = new BetPlacementEvent(placement.getEventId(), EventType.insert, placement);
+        placementEvent.setAggregateId(placement.getEntityId());
+
+        BetSettlement settlement = new BetSettlement();
+        populate(settlement);
+        settlement.setCustomerId(UUID.randomUUID());
+        settlement.setPayout(Money.of("43.75", Money.USD));
+        settlementEvent = new BetSettlementEvent(settlement.getEventId(), EventType.insert, settlement);
+        settlementEvent.setAggregateId(settlement.getEntityId());
+
+        Registration registration = new Registration();
+        populate(registration);
+        registration.setOperatorId(UUID.randomUUID());
+        registration.setEmail("alice@example.com");
+        registration.setName("Alice");
+        registrationEvent = new RegistrationEvent(registration.getEventId(), EventType.insert, registration);
+        registrationEvent.setAggregateId(registration.getEntityId());
+
+        placementJson = jsonCodec.encode(placementEvent);
+        settlementJson = jsonCodec.encode(settlementEvent);
+        registrationJson = jsonCodec.encode(registrationEvent);
+        placementBinary = binaryCodec.encode(placementEvent);
+    }
+
+    private static void populate(AbstractJourney journey) {
+        journey.setEventId(UUID.randomUUID());
+        journey.setEntityId(UUID.randomUUID());
+        journey.setStatus(Status.APPROVED);
+        journey.setStatusDetail("Within spending budget");
+        journey.setOrigin("wallet-service");
+        journey.setJurisdiction(Jurisdiction.SE);
+        journey.setOutboxTime(Instant.now());
+    }
+
+    @Benchmark
+    public byte[] encodePlacement() {
+        return jsonCodec.encode(placementEvent);
+    }
+
+    @Benchmark
+    public BetPlacementEvent decodePlacement() {
+        return jsonCodec.decode(placementJson, BetPlacementEvent.class);
+    }
+
+    @Benchmark
+    public byte[] encodeSettlement() {
+        return jsonCodec.encode(settlementEvent);
+    }
+
+    @Benchmark
+    public BetSettlementEvent decodeSettlement() {
+        return jsonCodec.decode(settlementJson, BetSettlementEvent.class);
+    }
+
+    @Benchmark
+    public byte[] encodeRegistration() {
+        return jsonCodec.encode(registrationEvent);
+    }
+
+    @Benchmark
+    public RegistrationEvent decodeRegistration() {
+        return jsonCodec.decode(registrationJson, RegistrationEvent.class);
+    }
+
+    @Benchmark
+    public BetPlacementEvent binaryRoundTripPlacement() {
+        return binaryCodec.decode(binaryCodec.encode(placementEvent), BetPlacementEvent.class);
+    }
+
+    @Benchmark
+    public BetPlacementEvent decodeBinaryPlacement() {
+        return binaryCodec.decode(placementBinary, BetPlacementEvent.class);
+    }
+}
@@ -0,0 +1,50 @@
+package io.burpabet.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.burpabet.common.util.IdGenerator;
+import io.burpabet.common.util.RandomIdGenerator;
+import io.burpabet.common.util.TimePrefixedIdGenerator;
+
+/**
+ * Event id generation under concurrency, compared to {@link UUID#randomUUID()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IdGeneratorBenchmark {
+    private final IdGenerator randomIdGenerator = new RandomIdGenerator();
+
+    private final IdGenerator timePrefixedIdGenerator = new TimePrefixedIdGenerator(4);
+
+    @Benchmark
+    public UUID randomUUID() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID randomIdGenerator() {
+        return randomIdGenerator.nextId();
+    }
+
+    @Benchmark
+    public UUID timePrefixedIdGenerator() {
+        return timePrefixedIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,108 @@
+package io.burpabet.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.burpabet.common.util.Money;
+import io.burpabet.common.util.MoneyAccumulator;
+import io.burpabet.common.util.Odds;
+
+/**
+ * Money arithmetic as used per placement, settlement, spending limit check
+ * and transfer leg, and bulk totals as used for race summaries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyBenchmark {
+    @Param({"1000"})
+    private int size;
+
+    private Money stake;
+
+    private Money limit;
+
+    private Odds odds;
+
+    private Money[] amounts;
+
+    @Setup
+    public void setup() {
+        stake = Money.of("12.50", Money.USD);
+        limit = Money.of("100.00", Money.USD);
+        odds = Odds.of(5, 2);
+        amounts = new Money[size];
+        for (int i = 0; i < size; i++) {
+            amounts[i] = Money.ofMinorUnits(ThreadLocalRandom.current().nextLong(1, 100_000), Money.USD);
+        }
+    }
+
+    @Benchmark
+    public Money plus() {
+        return limit.plus(stake);
+    }
+
+    @Benchmark
+    public Money minus() {
+        return limit.minus(stake);
+    }
+
+    @Benchmark
+    public Money multiplyDouble() {
+        return stake.multiply(2.5);
+    }
+
+    @Benchmark
+    public Money multiplyBigDecimal() {
+        return stake.multiply(BigDecimal.TEN);
+    }
+
+    @Benchmark
+    public Money oddsPayout() {
+        return odds.payout(stake);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return limit.minus(stake).isGreaterThanOrEqualTo(stake);
+    }
+
+    @Benchmark
+    public Money ofString() {
+        return Money.of("12.50", Money.USD);
+    }
+
+    @Benchmark
+    public Money sumWithPlus() {
+        Money total = Money.zero(Money.USD);
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumWithAccumulator() {
+        MoneyAccumulator total = new MoneyAccumulator(Money.USD);
+        for (Money amount : amounts) {
+            total.add(amount);
+        }
+        return total.toMoney();
+    }
+}
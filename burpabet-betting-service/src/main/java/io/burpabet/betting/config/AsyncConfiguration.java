@@ -2,18 +2,36 @@ package io.burpabet.betting.config;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import io.burpabet.common.kafka.PoolBackpressureController;
+
+/**
+ * Executors for async methods and scheduled tasks. If virtual threads are enabled
+ * with {@code spring.threads.virtual.enabled} (Java 21+), each task runs in a new
+ * virtual thread rather than in a platform thread pool.
+ * <p>
+ * Async task submissions are held back while listeners are paused by the
+ * {@link PoolBackpressureController}, if enabled.
+ */
 @Configuration
 @EnableScheduling
 @EnableAsync
@@ -21,9 +39,27 @@ public class AsyncConfiguration implements AsyncConfigurer {
     @Value("${app.maximum-threads}")
     private int threadPoolSize;
 
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectProvider<PoolBackpressureController> poolBackpressureController;
+
     @Override
     public Executor getAsyncExecutor() {
-        return Executors.newCachedThreadPool();
+        PoolBackpressureController backpressure = poolBackpressureController.getIfAvailable();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            if (backpressure != null) {
+                executor.setTaskDecorator(backpressure);
+            }
+            return executor;
+        }
+        Executor executor = Executors.newCachedThreadPool();
+        return backpressure != null
+                ? task -> executor.execute(backpressure.decorate(task))
+                : executor;
     }
 
     @Override
@@ -32,12 +68,26 @@ public class AsyncConfiguration implements AsyncConfigurer {
     }
 
     @Bean
-    public ScheduledExecutorService scheduledExecutorService() {
-        return Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+    public TaskScheduler taskScheduler() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("scheduler-");
+            return scheduler;
+        }
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Runtime.getRuntime().availableProcessors());
+        scheduler.setThreadNamePrefix("scheduler-");
+        return scheduler;
     }
 
     @Bean
-    public ThreadPoolTaskExecutor getThreadPoolExecutor() {
+    public AsyncTaskExecutor getThreadPoolExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("worker-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(threadPoolSize);
@@ -12,21 +12,33 @@ import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.StreamJoined;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafkaStreams;
 import org.springframework.kafka.config.TopicBuilder;
-import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 
 import io.burpabet.betting.service.BetPlacementService;
 import io.burpabet.betting.service.BetSettlementService;
+import io.burpabet.common.aspect.RetryBudget;
 import io.burpabet.common.domain.BetPlacementEvent;
 import io.burpabet.common.domain.BetSettlementEvent;
 import io.burpabet.common.domain.TopicNames;
+import io.burpabet.common.kafka.KafkaBackpressureConfiguration;
+import io.burpabet.common.kafka.KafkaRetryConfiguration;
+import io.burpabet.common.kafka.OutboxLagInterceptor;
+import io.burpabet.common.kafka.RetryBudgetInterceptor;
+import io.burpabet.common.outbox.OutboxRelayConfiguration;
+import io.burpabet.common.serde.OutboxEventSerde;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableKafkaStreams
+@Import({KafkaRetryConfiguration.class, OutboxRelayConfiguration.class, KafkaBackpressureConfiguration.class})
 public class KafkaConfiguration {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -54,7 +66,7 @@ public class KafkaConfiguration {
 
     @Bean
     public KStream<String, BetPlacementEvent> betPlacementStream(StreamsBuilder builder) {
-        JsonSerde<BetPlacementEvent> placementSerde = new JsonSerde<>(BetPlacementEvent.class);
+        OutboxEventSerde<BetPlacementEvent> placementSerde = new OutboxEventSerde<>(BetPlacementEvent.class);
 
         KStream<String, BetPlacementEvent> walletStream = builder
                 .stream(TopicNames.WALLET_PLACEMENT, Consumed.with(Serdes.String(), placementSerde));
@@ -93,7 +105,7 @@ public class KafkaConfiguration {
 
     @Bean
     public KStream<String, BetSettlementEvent> betSettelemtKStream(StreamsBuilder builder) {
-        JsonSerde<BetSettlementEvent> settlementSerde = new JsonSerde<>(BetSettlementEvent.class);
+        OutboxEventSerde<BetSettlementEvent> settlementSerde = new OutboxEventSerde<>(BetSettlementEvent.class);
 
         KStream<String, BetSettlementEvent> walletStream = builder
                 .stream(TopicNames.WALLET_SETTLEMENT, Consumed.with(Serdes.String(), settlementSerde));
@@ -115,4 +127,15 @@ public class KafkaConfiguration {
         return walletStream;
     }
 
+    @Bean
+    public RecordInterceptor<Object, Object> recordInterceptor(MeterRegistry meterRegistry,
+                                                               ObjectProvider<RetryBudget> retryBudget) {
+        OutboxLagInterceptor outboxLagInterceptor = new OutboxLagInterceptor(meterRegistry);
+        // Boot only applies a single interceptor bean to the listener container factory
+        RetryBudget budget = retryBudget.getIfAvailable();
+        if (budget != null) {
+            return new CompositeRecordInterceptor<>(outboxLagInterceptor, new RetryBudgetInterceptor(budget));
+        }
+        return outboxLagInterceptor;
+    }
 }
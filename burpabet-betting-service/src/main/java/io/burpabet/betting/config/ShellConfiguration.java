@@ -11,6 +11,8 @@ import io.burpabet.betting.shell.RaceValueProvider;
 import io.burpabet.common.shell.AnsiConsole;
 import io.burpabet.common.shell.ExitCommand;
 import io.burpabet.common.shell.JurisdictionValueProvider;
+import io.burpabet.common.shell.RetryCommand;
+import io.burpabet.common.shell.SqlProfileCommand;
 import io.burpabet.common.shell.ToggleCommand;
 
 @Configuration
@@ -25,6 +27,16 @@ public class ShellConfiguration {
         return new ToggleCommand();
     }
 
+    @Bean
+    public RetryCommand retryCommand() {
+        return new RetryCommand();
+    }
+
+    @Bean
+    public SqlProfileCommand sqlProfileCommand() {
+        return new SqlProfileCommand();
+    }
+
     @Bean
     public CustomerValueProvider customerValueProvider() {
         return new CustomerValueProvider();
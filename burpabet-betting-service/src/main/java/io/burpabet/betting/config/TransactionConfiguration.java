@@ -2,9 +2,13 @@ package io.burpabet.betting.config;
 
 import io.burpabet.betting.BettingApplication;
 import io.burpabet.common.aspect.*;
+import io.burpabet.common.jdbc.SqlProfiler;
 import io.burpabet.common.outbox.OutboxJdbcRepository;
-import io.burpabet.common.outbox.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -20,7 +24,8 @@ import javax.sql.DataSource;
 @EnableJpaAuditing
 public class TransactionConfiguration {
     @Bean
-    public OutboxRepository outboxRepository() {
+    @ConfigurationProperties("app.outbox")
+    public OutboxJdbcRepository outboxRepository() {
         return new OutboxJdbcRepository();
     }
 
@@ -30,17 +35,44 @@ public class TransactionConfiguration {
     }
 
     @Bean
-    public RetryHandler retryHandler() {
-        return new ExponentialBackoffRetryHandler();
+    @ConfigurationProperties("app.follower-read-cache")
+    public FollowerReadCacheAspect followerReadCacheAspect(MeterRegistry meterRegistry) {
+        return new FollowerReadCacheAspect(meterRegistry);
     }
 
     @Bean
-    public TransactionRetryAspect transactionRetryAspect(RetryHandler retryHandler) {
-        return new TransactionRetryAspect(retryHandler);
+    @ConfigurationProperties("app.retry")
+    public RetryHandler retryHandler(@Value("${app.retry.adaptive.enabled:false}") boolean adaptive) {
+        return adaptive ? new AdaptiveRetryHandler() : new ExponentialBackoffRetryHandler();
+    }
+
+    @Bean
+    public RetryStatistics retryStatistics(MeterRegistry meterRegistry) {
+        return new RetryStatistics(meterRegistry);
+    }
+
+    @Bean
+    public SqlProfilerAspect sqlProfilerAspect(SqlProfiler sqlProfiler) {
+        return new SqlProfilerAspect(sqlProfiler);
+    }
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    @Bean
+    public TransactionRetryAspect transactionRetryAspect(RetryHandler retryHandler, RetryStatistics retryStatistics) {
+        return new TransactionRetryAspect(retryHandler, retryStatistics);
     }
 
     @Bean
     public TransactionDecoratorAspect transactionDecoratorAspect(DataSource dataSource) {
         return new TransactionDecoratorAspect(new JdbcTemplate(dataSource));
     }
+
+    @Bean
+    public static BeanPostProcessor transactionBoundaryAttributeSourcePostProcessor() {
+        return TransactionBoundaryAttributeSource.postProcessor();
+    }
 }
@@ -0,0 +1,24 @@
+package io.burpabet.betting.model;
+
+import io.burpabet.common.util.Odds;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class OddsConverter implements AttributeConverter<Odds, Double> {
+    @Override
+    public Double convertToDatabaseColumn(Odds odds) {
+        if (odds == null) {
+            return null;
+        }
+        return odds.doubleValue();
+    }
+
+    @Override
+    public Odds convertToEntityAttribute(Double value) {
+        if (value == null) {
+            return null;
+        }
+        return Odds.valueOf(value);
+    }
+}
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.burpabet.common.domain.Outcome;
 import io.burpabet.common.jpa.AbstractEntity;
 import io.burpabet.common.util.Money;
+import io.burpabet.common.util.MoneyAccumulator;
+import io.burpabet.common.util.Odds;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -18,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 
 @Entity
 public class Race extends AbstractEntity<UUID> {
@@ -36,8 +38,9 @@ public class Race extends AbstractEntity<UUID> {
     @Column
     private String horse;
 
+    @Convert(converter = OddsConverter.class)
     @Column
-    private double odds;
+    private Odds odds;
 
     @OneToMany(mappedBy = "race", fetch = FetchType.LAZY)
     @JsonIgnore
@@ -93,11 +96,11 @@ public class Race extends AbstractEntity<UUID> {
         this.horse = horse;
     }
 
-    public double getOdds() {
+    public Odds getOdds() {
         return odds;
     }
 
-    public void setOdds(double odds) {
+    public void setOdds(Odds odds) {
         this.odds = odds;
     }
 
@@ -108,37 +111,20 @@ public class Race extends AbstractEntity<UUID> {
 
     @JsonIgnore
     public Money getTotalWager() {
-        if (bets.isEmpty()) {
-            return Money.zero(Money.USD);
-        }
-        final AtomicReference<Money> total = new AtomicReference<>();
-        bets.forEach(bet -> {
-            if (total.get() == null) {
-                total.set(bet.getStake());
-            } else {
-                total.set(total.get().plus(bet.getStake()));
-            }
-        });
-        return total.get();
-
+        MoneyAccumulator total = new MoneyAccumulator();
+        bets.forEach(bet -> total.add(bet.getStake()));
+        return total.isEmpty() ? Money.zero(Money.USD) : total.toMoney();
     }
 
     @JsonIgnore
     public Money getTotalPayout() {
-        final AtomicReference<Money> total = new AtomicReference<>();
-        bets.stream()
-                .filter(Bet::isSettled)
-                .forEach(bet -> {
-                    if (total.get() == null) {
-                        total.set(bet.getPayout());
-                    } else {
-                        total.set(total.get().plus(bet.getPayout()));
-                    }
-                });
-        if (total.get() == null) {
-            return Money.zero(Money.USD);
-        }
-        return total.get();
+        MoneyAccumulator total = new MoneyAccumulator();
+        bets.forEach(bet -> {
+            if (bet.isSettled()) {
+                total.add(bet.getPayout());
+            }
+        });
+        return total.isEmpty() ? Money.zero(Money.USD) : total.toMoney();
     }
 
     @Override
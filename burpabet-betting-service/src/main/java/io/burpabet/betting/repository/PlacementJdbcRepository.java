@@ -0,0 +1,77 @@
+package io.burpabet.betting.repository;
+
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.annotations.TransactionMandatory;
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.Status;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * JDBC repository for the single round-trip placement write path. The idempotency key,
+ * the bet and the outbox event are written with one statement of chained data-modifying
+ * CTEs, where the key log insert gates the other two.
+ */
+@Repository
+public class PlacementJdbcRepository {
+    private static final String PLACEMENT_SQL = "WITH k AS ("
+            + " INSERT INTO key_log (id, time_received) VALUES (?, now())"
+            + " ON CONFLICT (id) DO NOTHING RETURNING id"
+            + "), b AS ("
+            + " INSERT INTO bet (id, race_id, customer_id, customer_name, stake, stake_currency,"
+            + " bet_type, placement_status, settled)"
+            + " SELECT ?, ?, ?, ?, ?, ?, ?::bet_type, ?, false FROM k RETURNING id"
+            + ")"
+            + " INSERT INTO %s (id, aggregate_id, status, payload_type, payload)"
+            + " SELECT k.id, b.id, ?, ?, ?::JSONB FROM k, b";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Insert a pending bet along with its idempotency key and outbox event.
+     *
+     * @param betId        the bet id
+     * @param betPlacement the placement request with the event id used as idempotency key
+     * @param outboxTable  the outbox table name
+     * @param payload      the outbox event JSON payload
+     * @return true if inserted or false if the event id was already processed
+     */
+    @TransactionMandatory
+    public boolean insertPendingBet(UUID betId, BetPlacement betPlacement, String outboxTable, String payload) {
+        Assert.notNull(betPlacement.getEventId(), "eventId is null");
+        Assert.notNull(betPlacement.getStake(), "stake is null");
+
+        int rows = jdbcTemplate.update(String.format(PLACEMENT_SQL, outboxTable), ps -> {
+            int idx = 1;
+            ps.setObject(idx++, betPlacement.getEventId());
+            ps.setObject(idx++, betId);
+            ps.setObject(idx++, betPlacement.getRaceId());
+            ps.setObject(idx++, betPlacement.getCustomerId());
+            ps.setString(idx++, betPlacement.getCustomerName());
+            ps.setBigDecimal(idx++, betPlacement.getStake().getAmount());
+            ps.setString(idx++, betPlacement.getStake().getCurrency().getCurrencyCode());
+            ps.setString(idx++, betPlacement.getBetType().name());
+            ps.setString(idx++, Status.PENDING.name());
+            ps.setString(idx++, Status.PENDING.name());
+            ps.setString(idx++, BetPlacement.class.getSimpleName());
+            ps.setString(idx++, payload);
+        });
+
+        return rows > 0;
+    }
+}
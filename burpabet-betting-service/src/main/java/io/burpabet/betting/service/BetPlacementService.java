@@ -3,8 +3,8 @@ package io.burpabet.betting.service;
 import io.burpabet.betting.model.Bet;
 import io.burpabet.betting.model.Race;
 import io.burpabet.betting.repository.BetRepository;
+import io.burpabet.betting.repository.PlacementJdbcRepository;
 import io.burpabet.betting.repository.RaceRepository;
-import io.burpabet.common.annotations.OutboxOperation;
 import io.burpabet.common.annotations.Retryable;
 import io.burpabet.common.annotations.ServiceFacade;
 import io.burpabet.common.annotations.TransactionBoundary;
@@ -12,10 +12,13 @@ import io.burpabet.common.domain.BetPlacement;
 import io.burpabet.common.domain.BetPlacementEvent;
 import io.burpabet.common.domain.EventType;
 import io.burpabet.common.domain.Status;
+import io.burpabet.common.outbox.OutboxRepository;
 import io.burpabet.common.shell.DebugSupport;
+import io.burpabet.common.util.IdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
 
 import java.util.Optional;
@@ -48,18 +51,55 @@ public class BetPlacementService {
     @Autowired
     private IdempotencyService idempotencyService;
 
+    @Autowired
+    private PlacementJdbcRepository placementJdbcRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
     @Autowired
     private Pusher pusher;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Value("${app.placement.single-statement:true}")
+    private boolean singleStatement;
+
     @TransactionBoundary
     public void deleteAllInBatch() {
         idempotencyService.deleteAllInBatch();
     }
 
     @TransactionBoundary
-    @OutboxOperation(aggregateType = "placement")
     @Retryable
     public BetPlacement placeBet(BetPlacement betPlacement) {
+        return singleStatement ? placeBetSingleStatement(betPlacement) : placeBetEntity(betPlacement);
+    }
+
+    /**
+     * Writes the idempotency key, bet and outbox event in one statement and round trip.
+     */
+    private BetPlacement placeBetSingleStatement(BetPlacement betPlacement) {
+        UUID betId = idGenerator.nextId();
+
+        BetPlacement placement = new BetPlacement();
+        placement.setEventId(betPlacement.getEventId());
+        placement.setEntityId(betId);
+        placement.setStatus(Status.PENDING);
+        placement.setCustomerId(betPlacement.getCustomerId());
+        placement.setStake(betPlacement.getStake());
+        placement.setRaceId(betPlacement.getRaceId());
+
+        if (!placementJdbcRepository.insertPendingBet(betId, betPlacement,
+                outboxRepository.tableName("placement"), outboxRepository.toPayload(placement))) {
+            throw new DuplicatePlacementException("Event ID already processed: " + betPlacement.getEventId());
+        }
+
+        return placement;
+    }
+
+    private BetPlacement placeBetEntity(BetPlacement betPlacement) {
         if (idempotencyService.alreadyProcessed(betPlacement.getEventId())) {
             throw new DuplicatePlacementException("Event ID already processed: " + betPlacement.getEventId());
         }
@@ -81,6 +121,8 @@ public class BetPlacementService {
 
         idempotencyService.markProcessed(betPlacement.getEventId());
 
+        outboxRepository.writeEvent(placement, "placement");
+
         return placement;
     }
 
@@ -18,17 +18,17 @@ public class BetService {
     @Autowired
     private BetRepository betRepository;
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Bet> findAll(Pageable page) {
         return betRepository.findAllBets(page);
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Bet> findUnsettledBets(Pageable page) {
         return betRepository.findUnsettledBets(page);
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Bet> findSettledBets(Pageable page) {
         return betRepository.findSettledBets(page);
     }
@@ -21,6 +21,7 @@ import io.burpabet.common.domain.Outcome;
 import io.burpabet.common.domain.Status;
 import io.burpabet.common.outbox.OutboxRepository;
 import io.burpabet.common.shell.DebugSupport;
+import io.burpabet.common.util.IdGenerator;
 
 @ServiceFacade
 public class BetSettlementService {
@@ -47,6 +48,9 @@ public class BetSettlementService {
     @Autowired
     private Pusher pusher;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
     @TransactionBoundary
     public void deleteAllInBatch() {
         betRepository.deleteAllInBatch();
@@ -61,15 +65,13 @@ public class BetSettlementService {
                 .filter(bet -> !bet.isSettled())
                 .forEach(bet -> {
                     switch (outcome) {
-                        case win -> bet.setPayout(bet.getStake()
-                                .multiply(bet.getRace().getOdds())
-                                .plus(bet.getStake()));
+                        case win -> bet.setPayout(bet.getRace().getOdds().payout(bet.getStake()));
                         case lose -> bet.setPayout(bet.getStake().negate());
                     }
                     bet.setSettlementStatus(Status.PENDING);
 
                     BetSettlement settlement = toBetSettlement(bet);
-                    settlement.setEventId(UUID.randomUUID());
+                    settlement.setEventId(idGenerator.nextId());
                     settlement.setOrigin("betting-service");
 
                     outboxRepository.writeEvent(settlement, "settlement");
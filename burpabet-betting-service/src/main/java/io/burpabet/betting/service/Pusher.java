@@ -1,10 +1,10 @@
 package io.burpabet.betting.service;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,10 +17,10 @@ public class Pusher {
     private SimpMessagingTemplate simpMessagingTemplate;
 
     @Autowired
-    private ScheduledExecutorService scheduledExecutorService;
+    private TaskScheduler taskScheduler;
 
     public void convertAndSend(String topic, Object payload, int delaySeconds) {
-        scheduledExecutorService.schedule(() ->
-                simpMessagingTemplate.convertAndSend(topic, payload), delaySeconds, TimeUnit.SECONDS);
+        taskScheduler.schedule(() ->
+                simpMessagingTemplate.convertAndSend(topic, payload), Instant.now().plusSeconds(delaySeconds));
     }
 }
@@ -30,21 +30,21 @@ public class RaceService {
         return raceRepository.findById(id).orElseThrow(() -> new NoSuchRaceException(id.toString()));
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Race> findRaces(Pageable page) {
         Page<UUID> raceIds = raceRepository.findRaceIds(page);
         List<Race> races = raceRepository.findRaces(raceIds.getContent());
         return new PageImpl<>(races, page, raceIds.getTotalElements());
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Race> findRacesWithSettledBets(Pageable page) {
         Page<UUID> raceIds = raceRepository.findRaceIdsWithSettledBets(page);
         List<Race> races = raceRepository.findRacesWithSettledBets(raceIds.getContent());
         return new PageImpl<>(races, page, raceIds.getTotalElements());
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Race> findRacesWithUnsettledBets(Pageable page) {
         Page<UUID> raceIds = raceRepository.findRaceIdsWithUnsettledBets(page);
         List<Race> races = raceRepository.findRacesWithUnsettledBets(raceIds.getContent());
@@ -33,6 +33,7 @@ import io.burpabet.common.domain.Jurisdiction;
 import io.burpabet.common.domain.Outcome;
 import io.burpabet.common.shell.CommandGroups;
 import io.burpabet.common.shell.JurisdictionValueProvider;
+import io.burpabet.common.util.IdGenerator;
 import io.burpabet.common.util.Money;
 
 import static io.burpabet.betting.shell.HypermediaClient.PAGED_MODEL_TYPE;
@@ -54,6 +55,9 @@ public class OperatorCommand extends AbstractShellComponent {
     @Autowired
     private HypermediaClient hypermediaClient;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
     @ShellMethod(value = "Place a bet on a given or random race", key = {"pb", "place-bet"})
     public void placeBet(
             @ShellOption(help = "customer id (empty denotes all in jurisdiction)",
@@ -99,7 +103,7 @@ public class OperatorCommand extends AbstractShellComponent {
         customerMap.forEach(map -> {
             Callable<BetPlacement> c = () -> {
                 BetPlacement betPlacement = new BetPlacement();
-                betPlacement.setEventId(UUID.randomUUID());
+                betPlacement.setEventId(idGenerator.nextId());
                 betPlacement.setCustomerId(UUID.fromString(map.get("id").toString()));
                 betPlacement.setStake(Money.of(stake, Money.USD));
 
@@ -32,6 +32,7 @@ import io.burpabet.betting.service.RaceService;
 import io.burpabet.betting.shell.HypermediaClient;
 import io.burpabet.common.domain.BetPlacement;
 import io.burpabet.common.domain.Outcome;
+import io.burpabet.common.util.IdGenerator;
 import io.burpabet.common.util.Money;
 
 import static io.burpabet.betting.shell.HypermediaClient.PAGED_CUSTOMER_MODEL_TYPE;
@@ -53,6 +54,9 @@ public class FrontEndController {
     @Autowired
     private HypermediaClient hypermediaClient;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
     @GetMapping(path = "/customers")
     public Callable<String> listCustomers(
             @PageableDefault(size = 15) Pageable page, Model model) {
@@ -100,7 +104,7 @@ public class FrontEndController {
 
             collection.getContent().forEach(map -> {
                 BetPlacement betPlacement = new BetPlacement();
-                betPlacement.setEventId(UUID.randomUUID());
+                betPlacement.setEventId(idGenerator.nextId());
                 betPlacement.setCustomerId(UUID.fromString(map.get("id").toString()));
                 betPlacement.setStake(Money.of("5.00", Money.USD));
                 betPlacement.setRaceId(raceService.getRandomRace().getId());
@@ -21,7 +21,7 @@ public class RaceResourceAssembler
         RaceModel model = new RaceModel();
         model.setTrack(entity.getTrack());
         model.setHorse(entity.getHorse());
-        model.setOdds(entity.getOdds());
+        model.setOdds(entity.getOdds().doubleValue());
         model.setTotalPayout(entity.getTotalPayout());
         model.setTotalWager(entity.getTotalWager());
         model.setTotalBets(entity.getTotalBets());
@@ -18,14 +18,26 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 public @interface TimeTravel {
     /**
-     * @return the time travel mode, either follower read or snapshot
+     * @return the time travel mode, either follower read, snapshot or bounded staleness
      */
     TimeTravelMode mode() default TimeTravelMode.FOLLOWER_READ;
 
     /**
      * See https://www.cockroachlabs.com/docs/stable/interval.html
+     * <p>
+     * For the bounded staleness modes this is the max staleness, with any sign ignored.
      *
      * @return interval expression (ignored if FOLLOWER_READ mode is used)
      */
     String interval() default "-30s";
+
+    /**
+     * (Optional) Indicates that follower read results of the annotated method can be
+     * served from the follower read cache, if enabled. Only use for methods returning
+     * domain values that are not meant to vary between calls with the same arguments,
+     * such as service finders, and never for web responses or randomized results.
+     *
+     * @return true if the method result can be cached
+     */
+    boolean cacheable() default false;
 }
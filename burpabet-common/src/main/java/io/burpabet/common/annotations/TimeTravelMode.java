@@ -14,6 +14,17 @@ public enum TimeTravelMode {
      * Non-authoritative read using a relative timestamp.
      */
     HISTORICAL_READ,
+    /**
+     * Non-authoritative read from the closest replica with data no staler than the
+     * interval, using {@code with_max_staleness}. Only applies to single-table point
+     * lookups, run as implicit (single-statement) transactions.
+     */
+    BOUNDED_STALENESS,
+    /**
+     * Like {@link #BOUNDED_STALENESS} but only served by the nearest replica, failing
+     * if that replica can't serve the read within the staleness bound.
+     */
+    NEAREST_REPLICA,
     /**
      * Authoritative reads (default in CockroachDB)
      */
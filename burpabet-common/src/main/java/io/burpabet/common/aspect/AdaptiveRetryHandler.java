@@ -0,0 +1,238 @@
+package io.burpabet.common.aspect;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.annotations.TransactionPriority;
+
+/**
+ * Contention-aware retry handler that tracks the transient failure rate per method
+ * signature and coordinates all callers of the same method, rather than letting
+ * each caller back off independently.
+ * <p>
+ * Each signature has an AIMD (additive increase, multiplicative decrease) concurrency
+ * limit. The limit is cut by a factor on transient failures (at most once per decrease
+ * interval) and grows by one for each successful attempt. A transient failure also
+ * opens a shared backoff window that all callers of the signature wait out before their
+ * next attempt. Attempts from a given number of calls are escalated to high priority.
+ * <p>
+ * Waiting for a permit is bounded so that callers are never starved.
+ */
+public class AdaptiveRetryHandler extends ExponentialBackoffRetryHandler {
+    private static final double FAILURE_RATE_ALPHA = 0.2;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<Object, ContentionState> contentionStates = new ConcurrentHashMap<>();
+
+    private int minLimit = 1;
+
+    private int maxLimit = 256;
+
+    private double decreaseFactor = 0.5;
+
+    private long decreaseInterval = 100;
+
+    private long baseBackoff = 10;
+
+    private long maxWait = 5000;
+
+    private int priorityEscalationAttempts = 3;
+
+    public void setMinLimit(int minLimit) {
+        Assert.isTrue(minLimit > 0, "minLimit must be > 0");
+        this.minLimit = minLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        Assert.isTrue(maxLimit > 0, "maxLimit must be > 0");
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Set the factor the concurrency limit is multiplied with on transient failures.
+     */
+    public void setDecreaseFactor(double decreaseFactor) {
+        Assert.isTrue(decreaseFactor > 0 && decreaseFactor < 1, "decreaseFactor must be in (0,1)");
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    /**
+     * Set the min time in millis between concurrency limit decreases.
+     */
+    public void setDecreaseInterval(long decreaseInterval) {
+        this.decreaseInterval = decreaseInterval;
+    }
+
+    public void setBaseBackoff(long baseBackoff) {
+        Assert.isTrue(baseBackoff > 0, "baseBackoff must be > 0");
+        this.baseBackoff = baseBackoff;
+    }
+
+    /**
+     * Set the max time in millis to wait for a permit before proceeding regardless.
+     */
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Set the method call attempt from which the transaction priority is escalated
+     * to high, or zero to disable.
+     */
+    public void setPriorityEscalationAttempts(int priorityEscalationAttempts) {
+        this.priorityEscalationAttempts = priorityEscalationAttempts;
+    }
+
+    private ContentionState contentionState(Signature signature) {
+        Object key = signature instanceof MethodSignature methodSignature
+                ? methodSignature.getMethod() : signature.toLongString();
+        return contentionStates.computeIfAbsent(key, k -> new ContentionState(maxLimit));
+    }
+
+    @Override
+    public void beforeAttempt(Signature signature, int methodCalls) {
+        contentionState(signature).acquire();
+    }
+
+    @Override
+    public void afterAttempt(Signature signature, int methodCalls, boolean transientFailure) {
+        contentionState(signature).release(transientFailure);
+    }
+
+    @Override
+    public TransactionPriority transactionPriority(Signature signature, int methodCalls) {
+        return priorityEscalationAttempts > 0 && methodCalls >= priorityEscalationAttempts
+                ? TransactionPriority.HIGH : null;
+    }
+
+    @Override
+    public void handleTransientException(SQLException sqlException, int methodCalls, Signature signature,
+                                         long maxBackoff) {
+        ContentionState state = contentionState(signature);
+
+        long ceiling = Math.min((long) (baseBackoff * Math.pow(2, methodCalls) * (1 + state.failureRate())),
+                maxBackoff);
+        long backoffMillis = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+
+        state.backoff(backoffMillis);
+
+        logger.warn("Transient SQL error (%s) for method [%s] attempt (%d) shared backoff %s ms limit %s: %s"
+                .formatted(sqlException.getSQLState(),
+                        signature.toShortString(),
+                        methodCalls,
+                        backoffMillis,
+                        state.limit(),
+                        sqlException.getMessage()));
+    }
+
+    private class ContentionState {
+        // Not a monitor, since waiting in synchronized would pin virtual threads
+        private final Lock lock = new ReentrantLock();
+
+        private final Condition changed = lock.newCondition();
+
+        private double limit;
+
+        private int inFlight;
+
+        private double failureRate;
+
+        private long lastDecreaseNanos;
+
+        private long backoffUntilNanos;
+
+        ContentionState(int limit) {
+            this.limit = limit;
+            this.lastDecreaseNanos = System.nanoTime();
+            this.backoffUntilNanos = System.nanoTime();
+        }
+
+        int limit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        double failureRate() {
+            lock.lock();
+            try {
+                return failureRate;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void acquire() {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait);
+            lock.lock();
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    long backoffNanos = backoffUntilNanos - now;
+                    if (backoffNanos <= 0 && inFlight < (int) limit) {
+                        break;
+                    }
+                    long remainingNanos = deadline - now;
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    changed.awaitNanos(backoffNanos > 0 ? Math.min(backoffNanos, remainingNanos) : remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight++;
+                lock.unlock();
+            }
+        }
+
+        void release(boolean transientFailure) {
+            lock.lock();
+            try {
+                inFlight = Math.max(0, inFlight - 1);
+
+                failureRate = failureRate * (1 - FAILURE_RATE_ALPHA) + (transientFailure ? FAILURE_RATE_ALPHA : 0);
+
+                long now = System.nanoTime();
+                if (transientFailure) {
+                    if (now - lastDecreaseNanos >= TimeUnit.MILLISECONDS.toNanos(decreaseInterval)) {
+                        limit = Math.max(minLimit, limit * decreaseFactor);
+                        lastDecreaseNanos = now;
+                    }
+                } else {
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void backoff(long backoffMillis) {
+            lock.lock();
+            try {
+                backoffUntilNanos = Math.max(backoffUntilNanos, System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -10,9 +10,15 @@ public abstract class AdvisorOrder {
     private AdvisorOrder() {
     }
 
-    public static final int TRANSACTION_RETRY_ADVISOR = Ordered.LOWEST_PRECEDENCE - 5;
+    public static final int FLIGHT_RECORDER_ADVISOR = Ordered.LOWEST_PRECEDENCE - 9;
 
-    public static final int TRANSACTION_MANAGER_ADVISOR = Ordered.LOWEST_PRECEDENCE - 4;
+    public static final int FOLLOWER_READ_CACHE_ADVISOR = Ordered.LOWEST_PRECEDENCE - 8;
+
+    public static final int SQL_PROFILER_ADVISOR = Ordered.LOWEST_PRECEDENCE - 7;
+
+    public static final int TRANSACTION_RETRY_ADVISOR = Ordered.LOWEST_PRECEDENCE - 6;
+
+    public static final int TRANSACTION_MANAGER_ADVISOR = Ordered.LOWEST_PRECEDENCE - 5;
 
     public static final int CHANGE_FEED_ADVISOR = Ordered.LOWEST_PRECEDENCE - 3;
 
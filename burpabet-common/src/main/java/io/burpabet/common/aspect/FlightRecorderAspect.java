@@ -0,0 +1,80 @@
+package io.burpabet.common.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+import io.burpabet.common.annotations.SagaStepAction;
+import io.burpabet.common.annotations.TransactionBoundary;
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.domain.OutboxEvent;
+import io.burpabet.common.jfr.SagaStepEvent;
+import io.burpabet.common.jfr.TransactionBoundaryEvent;
+
+/**
+ * AOP aspect that emits JFR events for {@link TransactionBoundary} invocations and
+ * {@link SagaStepAction} listener invocations. When the events are not enabled in a
+ * running recording, the advice only checks {@link jdk.jfr.Event#isEnabled()}.
+ * <p>
+ * This advice must be applied before the {@link TransactionRetryAspect} so that the
+ * boundary event spans all retry attempts.
+ */
+@Aspect
+@Order(FlightRecorderAspect.PRECEDENCE)
+public class FlightRecorderAspect {
+    /**
+     * The precedence at which this advice is ordered by which also controls
+     * the order it is invoked in the call chain between a source and target.
+     */
+    public static final int PRECEDENCE = AdvisorOrder.FLIGHT_RECORDER_ADVISOR;
+
+    @Around(value = "io.burpabet.common.aspect.Pointcuts.anyTransactionBoundaryOperation(transactionBoundary)",
+            argNames = "pjp,transactionBoundary")
+    public Object doAroundTransactionBoundary(ProceedingJoinPoint pjp, TransactionBoundary transactionBoundary)
+            throws Throwable {
+        TransactionBoundaryEvent event = new TransactionBoundaryEvent();
+        if (!event.isEnabled()) {
+            return pjp.proceed();
+        }
+
+        Object previous = event.enter();
+        boolean failed = true;
+        try {
+            Object rv = pjp.proceed();
+            failed = false;
+            return rv;
+        } finally {
+            event.exit(previous, pjp.getSignature().toShortString(), failed);
+        }
+    }
+
+    @Around(value = "io.burpabet.common.aspect.Pointcuts.anySagaStepOperation(sagaStepAction)",
+            argNames = "pjp,sagaStepAction")
+    public Object doAroundSagaStep(ProceedingJoinPoint pjp, SagaStepAction sagaStepAction)
+            throws Throwable {
+        SagaStepEvent event = new SagaStepEvent();
+        if (!event.isEnabled()) {
+            return pjp.proceed();
+        }
+
+        event.begin();
+        boolean failed = true;
+        try {
+            Object rv = pjp.proceed();
+            failed = false;
+            return rv;
+        } finally {
+            Object arg = pjp.getArgs().length > 0 ? pjp.getArgs()[0] : null;
+            String eventType = arg != null ? arg.getClass().getSimpleName() : null;
+            String status = null;
+            String entityId = null;
+            if (arg instanceof OutboxEvent<?> outboxEvent
+                    && outboxEvent.getPayload() instanceof AbstractJourney journey) {
+                status = journey.getStatus() != null ? journey.getStatus().name() : null;
+                entityId = journey.getEntityId() != null ? journey.getEntityId().toString() : null;
+            }
+            event.complete(pjp.getSignature().toShortString(), eventType, status, entityId, failed);
+        }
+    }
+}
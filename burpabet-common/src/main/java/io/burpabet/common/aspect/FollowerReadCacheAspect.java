@@ -0,0 +1,195 @@
+package io.burpabet.common.aspect;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.annotations.TimeTravel;
+import io.burpabet.common.annotations.TimeTravelMode;
+import io.burpabet.common.annotations.TransactionBoundary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AOP aspect that caches the results of {@link TransactionBoundary} methods using
+ * {@link TimeTravelMode#FOLLOWER_READ} that opt in with {@link TimeTravel#cacheable()},
+ * keyed by method and arguments. This takes repeated polls off the database at the
+ * expense of staleness: a follower read already returns data as of the closed timestamp
+ * (about 4.8s in the past), and a cached result adds up to the time-to-live on top.
+ * <p>
+ * Methods returning void or null are never cached, nor are exceptions. Entries expire
+ * after the time-to-live and the least recently used entries are evicted beyond the
+ * max size. There is no invalidation on writes. Cached values are shared between
+ * callers, so only domain values that callers don't modify should be cached.
+ * <p>
+ * This advice must be applied before the {@link TransactionRetryAspect} and the Spring
+ * transaction advisor so that cache hits don't open a transaction.
+ */
+@Aspect
+@Order(FollowerReadCacheAspect.PRECEDENCE)
+public class FollowerReadCacheAspect {
+    /**
+     * The precedence at which this advice is ordered by which also controls
+     * the order it is invoked in the call chain between a source and target.
+     */
+    public static final int PRECEDENCE = AdvisorOrder.FOLLOWER_READ_CACHE_ADVISOR;
+
+    private final Map<CacheKey, CacheEntry> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > maxSize || eldest.getValue().isExpired(System.nanoTime());
+        }
+    };
+
+    private boolean enabled;
+
+    private long timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private int maxSize = 1024;
+
+    private Counter hits;
+
+    private Counter misses;
+
+    public FollowerReadCacheAspect() {
+    }
+
+    public FollowerReadCacheAspect(MeterRegistry meterRegistry) {
+        Assert.notNull(meterRegistry, "meterRegistry is null");
+        this.hits = Counter.builder("burpabet.follower-read.cache")
+                .description("Follower read cache lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("burpabet.follower-read.cache")
+                .description("Follower read cache lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("burpabet.follower-read.cache.size", this, FollowerReadCacheAspect::size)
+                .description("Follower read cache entries")
+                .register(meterRegistry);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param timeToLive time-to-live of cached results in millis, which adds to the
+     *                   staleness of the follower read
+     */
+    public void setTimeToLive(long timeToLive) {
+        Assert.isTrue(timeToLive >= 0, "timeToLive must be >= 0");
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+    }
+
+    public void setMaxSize(int maxSize) {
+        Assert.isTrue(maxSize > 0, "maxSize must be > 0");
+        this.maxSize = maxSize;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Around(value = "io.burpabet.common.aspect.Pointcuts.anyTransactionBoundaryOperation(transactionBoundary)",
+            argNames = "pjp,transactionBoundary")
+    public Object doAroundFollowerRead(ProceedingJoinPoint pjp, TransactionBoundary transactionBoundary)
+            throws Throwable {
+        TimeTravel timeTravel = transactionBoundary.timeTravel();
+        if (!enabled || timeToLiveNanos == 0
+                || timeTravel.mode() != TimeTravelMode.FOLLOWER_READ
+                || !timeTravel.cacheable()) {
+            return pjp.proceed();
+        }
+
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        if (method.getReturnType() == void.class) {
+            return pjp.proceed();
+        }
+
+        CacheKey key = new CacheKey(method, pjp.getArgs());
+        long now = System.nanoTime();
+
+        CacheEntry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                cache.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry != null) {
+            if (hits != null) {
+                hits.increment();
+            }
+            return entry.value;
+        }
+
+        if (misses != null) {
+            misses.increment();
+        }
+
+        Object rv = pjp.proceed();
+        if (rv != null) {
+            synchronized (cache) {
+                cache.put(key, new CacheEntry(rv, now + timeToLiveNanos));
+            }
+        }
+        return rv;
+    }
+
+    private record CacheEntry(Object value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private static final class CacheKey {
+        private final Method method;
+
+        private final Object[] args;
+
+        private final int hash;
+
+        CacheKey(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+            this.hash = 31 * method.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey that)) {
+                return false;
+            }
+            return hash == that.hash && method.equals(that.method) && Arrays.deepEquals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.burpabet.common.aspect;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of advice plans compiled once per advised method on first invocation,
+ * so that the advice hot path is a map lookup.
+ *
+ * @param <A> the annotation type the plan is compiled from
+ * @param <P> the plan type
+ */
+class MethodPlanRegistry<A extends Annotation, P> {
+    private final Map<Method, P> plans = new ConcurrentHashMap<>();
+
+    private final Class<A> annotationType;
+
+    private final Function<A, P> compiler;
+
+    MethodPlanRegistry(Class<A> annotationType, Function<A, P> compiler) {
+        this.annotationType = annotationType;
+        this.compiler = compiler;
+    }
+
+    /**
+     * @param pjp        the join point
+     * @param annotation the annotation bound by the pointcut, or null to look it up
+     *                   on the declaring type (for non-annotated methods)
+     * @return the compiled plan
+     */
+    P lookup(ProceedingJoinPoint pjp, A annotation) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        P plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, m -> {
+                A a = annotation != null ? annotation
+                        : AnnotationUtils.findAnnotation(pjp.getSignature().getDeclaringType(), annotationType);
+                Assert.notNull(a, "No @" + annotationType.getSimpleName() + " annotation found!?");
+                return compiler.apply(a);
+            });
+        }
+        return plan;
+    }
+}
@@ -5,6 +5,7 @@ import org.aspectj.lang.annotation.Pointcut;
 
 import io.burpabet.common.annotations.OutboxOperation;
 import io.burpabet.common.annotations.Retryable;
+import io.burpabet.common.annotations.SagaStepAction;
 import io.burpabet.common.annotations.TransactionBoundary;
 
 @Aspect
@@ -32,4 +33,13 @@ public class Pointcuts {
             + "&& @annotation(outboxPayload)")
     public void anyOutboxEventOperation(OutboxOperation outboxPayload) {
     }
+
+    /**
+     * Pointcut expression matching all Kafka listener methods of saga step actions.
+     */
+    @Pointcut("execution(public * *(..)) "
+            + "&& @within(sagaStepAction) "
+            + "&& @annotation(org.springframework.kafka.annotation.KafkaListener)")
+    public void anySagaStepOperation(SagaStepAction sagaStepAction) {
+    }
 }
@@ -0,0 +1,36 @@
+package io.burpabet.common.aspect;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thread-bound cap on in-place transaction retries, applied by the {@link TransactionRetryAspect}
+ * on top of the {@link io.burpabet.common.annotations.Retryable} attributes. Used to keep
+ * blocking retries short on threads where a failure can be retried later by other means,
+ * such as Kafka listener threads backed by retry topics.
+ *
+ * @param retryAttempts max number of retry attempts
+ * @param maxBackoff    max backoff time in millis
+ */
+public record RetryBudget(int retryAttempts, long maxBackoff) {
+    private static final ThreadLocal<RetryBudget> CURRENT = new ThreadLocal<>();
+
+    public RetryBudget {
+        Assert.isTrue(retryAttempts >= 0, "retryAttempts must be >= 0");
+        Assert.isTrue(maxBackoff >= 0, "maxBackoff must be >= 0");
+    }
+
+    /**
+     * @return the budget bound to the current thread or null
+     */
+    public static RetryBudget current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RetryBudget retryBudget) {
+        CURRENT.set(retryBudget);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -5,6 +5,8 @@ import java.time.Duration;
 
 import org.aspectj.lang.Signature;
 
+import io.burpabet.common.annotations.TransactionPriority;
+
 public interface RetryHandler {
     boolean isRetryable(SQLException sqlException);
 
@@ -19,4 +21,27 @@ public interface RetryHandler {
                                           int methodCalls,
                                           Signature signature,
                                           Duration elapsedTime);
+
+    /**
+     * Invoked before each method call attempt outside of a transaction, which may block
+     * to back off or limit concurrency.
+     */
+    default void beforeAttempt(Signature signature, int methodCalls) {
+    }
+
+    /**
+     * Invoked after each method call attempt.
+     *
+     * @param transientFailure true if the attempt failed with a retryable exception
+     */
+    default void afterAttempt(Signature signature, int methodCalls, boolean transientFailure) {
+    }
+
+    /**
+     * @return the transaction priority to escalate to for a method call attempt,
+     * or null to use the declared priority
+     */
+    default TransactionPriority transactionPriority(Signature signature, int methodCalls) {
+        return null;
+    }
 }
@@ -0,0 +1,12 @@
+package io.burpabet.common.aspect;
+
+import io.burpabet.common.annotations.Retryable;
+
+/**
+ * Precompiled retry attributes of a {@link Retryable} method.
+ */
+record RetryPlan(int retryAttempts, long maxBackoff) {
+    static RetryPlan compile(Retryable retryable) {
+        return new RetryPlan(retryable.retryAttempts(), retryable.maxBackoff());
+    }
+}
@@ -0,0 +1,210 @@
+package io.burpabet.common.aspect;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Aggregated transaction retry statistics per method signature, recorded by the
+ * {@link TransactionRetryAspect}. Statistics are kept in memory for the shell and
+ * optionally published as Micrometer meters tagged by method:
+ * <ul>
+ *     <li>burpabet.retry.attempts - attempts per call (distribution)</li>
+ *     <li>burpabet.retry.backoff - time lost to backoff per call (timer)</li>
+ *     <li>burpabet.retry.errors - transient errors by SQL state (counter)</li>
+ *     <li>burpabet.retry.giveups - calls that ran out of retry attempts (counter)</li>
+ *     <li>burpabet.retry.failures - calls that failed with a non-transient error (counter)</li>
+ * </ul>
+ */
+public class RetryStatistics {
+    /**
+     * Outcome of a transaction boundary call.
+     */
+    public enum Outcome {
+        /**
+         * The call succeeded, possibly after retries.
+         */
+        SUCCESS,
+        /**
+         * The call failed with a non-transient error.
+         */
+        FAILURE,
+        /**
+         * The call ran out of retry attempts.
+         */
+        GAVE_UP
+    }
+
+    private final Map<Object, MethodStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public RetryStatistics() {
+        this(null);
+    }
+
+    public RetryStatistics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private MethodStatistics methodStatistics(Signature signature) {
+        Object key = signature instanceof MethodSignature methodSignature
+                ? methodSignature.getMethod() : signature.toLongString();
+        return statistics.computeIfAbsent(key, k -> new MethodStatistics(signature.toShortString()));
+    }
+
+    /**
+     * Record a completed, failed or abandoned call.
+     *
+     * @param attempts     number of method call attempts
+     * @param backoffNanos total time spent backing off
+     * @param outcome      the call outcome
+     */
+    public void recordCall(Signature signature, int attempts, long backoffNanos, Outcome outcome) {
+        MethodStatistics s = methodStatistics(signature);
+        s.calls.increment();
+        s.retries.add(attempts - 1);
+        s.backoffNanos.add(backoffNanos);
+        if (outcome == Outcome.GAVE_UP) {
+            s.giveUps.increment();
+        } else if (outcome == Outcome.FAILURE) {
+            s.failures.increment();
+        }
+        if (s.attemptsSummary != null) {
+            s.attemptsSummary.record(attempts);
+            s.backoffTimer.record(backoffNanos, TimeUnit.NANOSECONDS);
+            if (outcome == Outcome.GAVE_UP) {
+                s.giveUpCounter.increment();
+            } else if (outcome == Outcome.FAILURE) {
+                s.failureCounter.increment();
+            }
+        }
+    }
+
+    public void recordTransientError(Signature signature, String sqlState) {
+        MethodStatistics s = methodStatistics(signature);
+        String state = String.valueOf(sqlState);
+        s.sqlStates.computeIfAbsent(state, k -> new LongAdder()).increment();
+        if (meterRegistry != null) {
+            s.errorCounters.computeIfAbsent(state, k -> Counter.builder("burpabet.retry.errors")
+                    .description("Transient SQL errors")
+                    .tag("method", s.name)
+                    .tag("sqlstate", state)
+                    .register(meterRegistry)).increment();
+        }
+    }
+
+    /**
+     * @param limit max number of entries
+     * @return snapshots of the methods with the most retries, in descending order
+     */
+    public List<Snapshot> topOffenders(int limit) {
+        return statistics.values().stream()
+                .map(MethodStatistics::snapshot)
+                .filter(snapshot -> snapshot.retries() > 0 || snapshot.giveUps() > 0 || snapshot.failures() > 0)
+                .sorted(Comparator.comparingLong(Snapshot::retries).reversed()
+                        .thenComparing(Comparator.comparingLong(Snapshot::giveUps).reversed()))
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statistics.values().forEach(MethodStatistics::reset);
+    }
+
+    public record Snapshot(String method,
+                           long calls,
+                           long retries,
+                           long giveUps,
+                           long failures,
+                           Duration backoff,
+                           Map<String, Long> sqlStates) {
+        public double attemptsPerCall() {
+            return calls > 0 ? (double) (calls + retries) / calls : 0;
+        }
+    }
+
+    private class MethodStatistics {
+        final String name;
+
+        final LongAdder calls = new LongAdder();
+
+        final LongAdder retries = new LongAdder();
+
+        final LongAdder giveUps = new LongAdder();
+
+        final LongAdder failures = new LongAdder();
+
+        final LongAdder backoffNanos = new LongAdder();
+
+        final Map<String, LongAdder> sqlStates = new ConcurrentHashMap<>();
+
+        final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+        final DistributionSummary attemptsSummary;
+
+        final Timer backoffTimer;
+
+        final Counter giveUpCounter;
+
+        final Counter failureCounter;
+
+        MethodStatistics(String name) {
+            this.name = name;
+            if (meterRegistry != null) {
+                this.attemptsSummary = DistributionSummary.builder("burpabet.retry.attempts")
+                        .description("Method call attempts per transaction boundary call")
+                        .tag("method", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+                this.backoffTimer = Timer.builder("burpabet.retry.backoff")
+                        .description("Time lost to retry backoff per transaction boundary call")
+                        .tag("method", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+                this.giveUpCounter = Counter.builder("burpabet.retry.giveups")
+                        .description("Calls that ran out of retry attempts")
+                        .tag("method", name)
+                        .register(meterRegistry);
+                this.failureCounter = Counter.builder("burpabet.retry.failures")
+                        .description("Calls that failed with a non-transient error")
+                        .tag("method", name)
+                        .register(meterRegistry);
+            } else {
+                this.attemptsSummary = null;
+                this.backoffTimer = null;
+                this.giveUpCounter = null;
+                this.failureCounter = null;
+            }
+        }
+
+        Snapshot snapshot() {
+            Map<String, Long> states = new TreeMap<>();
+            sqlStates.forEach((state, count) -> states.put(state, count.sum()));
+            return new Snapshot(name, calls.sum(), retries.sum(), giveUps.sum(), failures.sum(),
+                    Duration.ofNanos(backoffNanos.sum()), states);
+        }
+
+        void reset() {
+            calls.reset();
+            retries.reset();
+            giveUps.reset();
+            failures.reset();
+            backoffNanos.reset();
+            sqlStates.values().forEach(LongAdder::reset);
+        }
+    }
+}
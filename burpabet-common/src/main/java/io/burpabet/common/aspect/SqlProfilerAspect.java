@@ -0,0 +1,46 @@
+package io.burpabet.common.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.annotations.TransactionBoundary;
+import io.burpabet.common.jdbc.SqlProfiler;
+
+/**
+ * AOP aspect that counts the SQL round trips of each {@link TransactionBoundary}
+ * invocation, including retries, in the {@link SqlProfiler}.
+ * <p>
+ * This advice must be applied before the {@link TransactionRetryAspect} and the Spring
+ * transaction advisor so that commits, rollbacks and retry attempts are included.
+ */
+@Aspect
+@Order(SqlProfilerAspect.PRECEDENCE)
+public class SqlProfilerAspect {
+    /**
+     * The precedence at which this advice is ordered by which also controls
+     * the order it is invoked in the call chain between a source and target.
+     */
+    public static final int PRECEDENCE = AdvisorOrder.SQL_PROFILER_ADVISOR;
+
+    private final SqlProfiler sqlProfiler;
+
+    public SqlProfilerAspect(SqlProfiler sqlProfiler) {
+        Assert.notNull(sqlProfiler, "sqlProfiler is null");
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    @Around(value = "io.burpabet.common.aspect.Pointcuts.anyTransactionBoundaryOperation(transactionBoundary)",
+            argNames = "pjp,transactionBoundary")
+    public Object doAroundTransactionBoundary(ProceedingJoinPoint pjp, TransactionBoundary transactionBoundary)
+            throws Throwable {
+        Object previous = sqlProfiler.enterBoundary();
+        try {
+            return pjp.proceed();
+        } finally {
+            sqlProfiler.exitBoundary(pjp.getSignature().toShortString(), previous);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.burpabet.common.aspect;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.annotations.TimeTravelMode;
+import io.burpabet.common.annotations.TransactionBoundary;
+
+/**
+ * Transaction attribute source decorator that derives transaction attributes from
+ * the {@link TransactionBoundary} time travel mode:
+ * <ul>
+ *     <li>Time travel reads are marked read-only, which routes them to the read pool
+ *     (see {@link io.burpabet.common.jpa.ReadWriteRoutingDataSource}).</li>
+ *     <li>Bounded staleness reads are only allowed in implicit transactions in CockroachDB,
+ *     so these run with {@link TransactionDefinition#PROPAGATION_NOT_SUPPORTED} and each
+ *     statement is its own implicit transaction.</li>
+ * </ul>
+ * Installed on the Spring transaction interceptor through {@link #postProcessor()}.
+ */
+public class TransactionBoundaryAttributeSource implements TransactionAttributeSource {
+    private static final TransactionAttribute NO_ATTRIBUTE = new DefaultTransactionAttribute();
+
+    private final TransactionAttributeSource delegate;
+
+    private final Map<MethodClassKey, TransactionAttribute> attributeCache = new ConcurrentHashMap<>();
+
+    public TransactionBoundaryAttributeSource(TransactionAttributeSource delegate) {
+        Assert.notNull(delegate, "delegate is null");
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return a bean post-processor that decorates the transaction interceptor attribute source
+     */
+    public static BeanPostProcessor postProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof TransactionInterceptor interceptor
+                        && interceptor.getTransactionAttributeSource() != null
+                        && !(interceptor.getTransactionAttributeSource()
+                        instanceof TransactionBoundaryAttributeSource)) {
+                    interceptor.setTransactionAttributeSource(
+                            new TransactionBoundaryAttributeSource(interceptor.getTransactionAttributeSource()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static boolean isBoundedStaleness(TimeTravelMode mode) {
+        return mode == TimeTravelMode.BOUNDED_STALENESS || mode == TimeTravelMode.NEAREST_REPLICA;
+    }
+
+    @Override
+    public boolean isCandidateClass(Class<?> targetClass) {
+        return delegate.isCandidateClass(targetClass);
+    }
+
+    @Override
+    public TransactionAttribute getTransactionAttribute(Method method, Class<?> targetClass) {
+        MethodClassKey key = new MethodClassKey(method, targetClass);
+        TransactionAttribute attribute = attributeCache.get(key);
+        if (attribute == null) {
+            attribute = computeTransactionAttribute(method, targetClass);
+            attributeCache.put(key, attribute != null ? attribute : NO_ATTRIBUTE);
+        }
+        return attribute != NO_ATTRIBUTE ? attribute : null;
+    }
+
+    private TransactionAttribute computeTransactionAttribute(Method method, Class<?> targetClass) {
+        TransactionAttribute attribute = delegate.getTransactionAttribute(method, targetClass);
+        if (attribute == null) {
+            return null;
+        }
+
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        TransactionBoundary transactionBoundary = AnnotationUtils.findAnnotation(specificMethod,
+                TransactionBoundary.class);
+        if (transactionBoundary == null) {
+            transactionBoundary = AnnotationUtils.findAnnotation(specificMethod.getDeclaringClass(),
+                    TransactionBoundary.class);
+        }
+
+        if (transactionBoundary == null
+                || transactionBoundary.timeTravel().mode() == TimeTravelMode.DISABLED) {
+            return attribute;
+        }
+
+        DefaultTransactionAttribute timeTravel = attribute instanceof RuleBasedTransactionAttribute rules
+                ? new RuleBasedTransactionAttribute(rules)
+                : new DefaultTransactionAttribute(attribute);
+        timeTravel.setReadOnly(true);
+        if (isBoundedStaleness(transactionBoundary.timeTravel().mode())) {
+            timeTravel.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        }
+        return timeTravel;
+    }
+}
@@ -1,15 +1,27 @@
 package io.burpabet.common.aspect;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.sql.DataSource;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
-import io.burpabet.common.annotations.TimeTravel;
-import io.burpabet.common.annotations.TimeTravelMode;
 import io.burpabet.common.annotations.TransactionBoundary;
 import io.burpabet.common.annotations.TransactionPriority;
+import io.burpabet.common.jpa.StaleReadStatementInspector;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -22,6 +34,14 @@ import org.springframework.util.Assert;
  * <p>
  * See {@link org.springframework.transaction.annotation.EnableTransactionManagement} for
  * controlling weaving order.
+ * <p>
+ * Session variables are tracked per physical connection and only sent when changed,
+ * and all variables are coalesced into a single multi-statement round trip with the
+ * transaction-scoped modes in one {@code SET TRANSACTION} statement. The statements
+ * are compiled once per method from the annotation attributes.
+ * <p>
+ * Bounded staleness reads run without a transaction (see {@link TransactionBoundaryAttributeSource})
+ * and have the clause added to each select by {@link StaleReadStatementInspector}.
  *
  * @author Kai Niemi
  */
@@ -36,6 +56,15 @@ public class TransactionDecoratorAspect {
 
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Session variables last committed per physical connection.
+     */
+    private final Map<Connection, Map<String, String>> sessionState
+            = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final MethodPlanRegistry<TransactionBoundary, TransactionPlan> transactionPlans
+            = new MethodPlanRegistry<>(TransactionBoundary.class, TransactionPlan::compile);
+
     public TransactionDecoratorAspect(@Autowired JdbcTemplate jdbcTemplate) {
         Assert.notNull(jdbcTemplate, "jdbcTemplate is null");
         this.jdbcTemplate = jdbcTemplate;
@@ -45,51 +74,110 @@ public class TransactionDecoratorAspect {
             argNames = "pjp,transactionBoundary")
     public Object doInTransaction(ProceedingJoinPoint pjp, TransactionBoundary transactionBoundary)
             throws Throwable {
+        TransactionPlan plan = transactionPlans.lookup(pjp, transactionBoundary);
+
+        // Bounded staleness reads are only allowed in implicit transactions
+        if (plan.staleReadClause() != null) {
+            String previous = StaleReadStatementInspector.bind(plan.staleReadClause());
+            try {
+                return pjp.proceed();
+            } finally {
+                StaleReadStatementInspector.restore(previous);
+            }
+        }
+
         Assert.isTrue(TransactionSynchronizationManager.isActualTransactionActive(),
                 "Expecting active transaction - check advice @Order and @EnableTransactionManagement order");
 
-        // Grab from type if needed (for non-annotated methods)
-        if (transactionBoundary == null) {
-            transactionBoundary = TransactionRetryAspect.findAnnotation(pjp, TransactionBoundary.class);
-        }
+        Integer numCalls = (Integer) TransactionSynchronizationManager
+                .getResource(TransactionRetryAspect.RETRY_ASPECT_CALL_COUNT);
+
+        TransactionPriority escalatedPriority = (TransactionPriority) TransactionSynchronizationManager
+                .getResource(TransactionRetryAspect.RETRY_ASPECT_PRIORITY);
 
-        Assert.notNull(transactionBoundary, "No @TransactionBoundary annotation found!?");
+        String transactionSql = plan.transactionSql(numCalls != null ? numCalls : 1, escalatedPriority);
 
-        if (!"(empty)".equals(transactionBoundary.applicationName())) {
-            jdbcTemplate.update("SET application_name=?", transactionBoundary.applicationName());
+        Map<String, String> sessionVariables = plan.sessionVariables();
+        if (!sessionVariables.isEmpty()) {
+            sessionVariables = new LinkedHashMap<>(sessionVariables);
+            removeUnchanged(sessionVariables);
         }
 
-        if (!TransactionPriority.NORMAL.equals(transactionBoundary.retryPriority())) {
-            if (TransactionSynchronizationManager.hasResource(TransactionRetryAspect.RETRY_ASPECT_CALL_COUNT)) {
-                Integer numCalls = (Integer) TransactionSynchronizationManager
-                        .getResource(TransactionRetryAspect.RETRY_ASPECT_CALL_COUNT);
-                if (numCalls > 1) {
-                    jdbcTemplate.execute("SET TRANSACTION PRIORITY "
-                            + transactionBoundary.retryPriority().name());
-                }
-            }
-        } else if (!TransactionPriority.NORMAL.equals(transactionBoundary.priority())) {
-            jdbcTemplate.execute("SET TRANSACTION PRIORITY "
-                    + transactionBoundary.priority().name());
+        String sql = sessionVariables.isEmpty()
+                ? transactionSql
+                : withSessionVariables(sessionVariables, transactionSql);
+        if (sql != null) {
+            jdbcTemplate.execute(sql);
         }
 
-        if (!"0s".equals(transactionBoundary.idleTimeout())) {
-            jdbcTemplate.update("SET idle_in_transaction_session_timeout=?", transactionBoundary.idleTimeout());
+        return pjp.proceed();
+    }
+
+    /**
+     * Remove the session variables already set on the current physical connection, and
+     * record the remaining ones once the transaction commits (a rollback may revert them).
+     */
+    private void removeUnchanged(Map<String, String> sessionVariables) throws SQLException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
 
-        if (transactionBoundary.readOnly()) {
-            jdbcTemplate.execute("SET transaction_read_only=true");
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Connection physicalConnection = physicalConnection(connection);
+
+            Map<String, String> current = sessionState.getOrDefault(physicalConnection, Collections.emptyMap());
+            sessionVariables.entrySet().removeIf(e -> e.getValue().equals(current.get(e.getKey())));
+
+            if (!sessionVariables.isEmpty()) {
+                Map<String, String> changes = new HashMap<>(sessionVariables);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            sessionState.computeIfAbsent(physicalConnection, k -> new HashMap<>()).putAll(changes);
+                        } else {
+                            sessionState.remove(physicalConnection);
+                        }
+                    }
+                });
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
         }
+    }
 
-        TimeTravel timeTravel = transactionBoundary.timeTravel();
+    private static Connection physicalConnection(Connection connection) throws SQLException {
+        Connection target = connection;
+        for (int depth = 0; depth < 8; depth++) {
+            Connection next;
+            if (target instanceof ConnectionProxy proxy) {
+                next = proxy.getTargetConnection();
+            } else if (target.isWrapperFor(Connection.class)) {
+                next = target.unwrap(Connection.class);
+            } else {
+                next = target;
+            }
+            if (next == null || next == target) {
+                return target;
+            }
+            target = next;
+        }
+        return target;
+    }
 
-        if (timeTravel.mode().equals(TimeTravelMode.FOLLOWER_READ)) {
-            jdbcTemplate.execute("SET TRANSACTION AS OF SYSTEM TIME follower_read_timestamp()");
-        } else if (timeTravel.mode().equals(TimeTravelMode.HISTORICAL_READ)) {
-            jdbcTemplate.update("SET TRANSACTION AS OF SYSTEM TIME INTERVAL '"
-                    + timeTravel.interval() + "'");
+    private static String withSessionVariables(Map<String, String> sessionVariables, String transactionSql) {
+        StringBuilder sql = new StringBuilder();
+        sessionVariables.forEach((name, value) -> sql.append("SET ").append(name)
+                .append("=").append(quote(value)).append(";"));
+        if (transactionSql != null) {
+            sql.append(transactionSql);
         }
+        return sql.toString();
+    }
 
-        return pjp.proceed();
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
     }
 }
@@ -0,0 +1,145 @@
+package io.burpabet.common.aspect;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.burpabet.common.annotations.TimeTravel;
+import io.burpabet.common.annotations.TimeTravelMode;
+import io.burpabet.common.annotations.TransactionBoundary;
+import io.burpabet.common.annotations.TransactionPriority;
+
+/**
+ * Precompiled session variables and {@code SET TRANSACTION} statements
+ * of a {@link TransactionBoundary} method.
+ */
+final class TransactionPlan {
+    static TransactionPlan compile(TransactionBoundary transactionBoundary) {
+        Map<String, String> sessionVariables = new LinkedHashMap<>();
+
+        if (!"(empty)".equals(transactionBoundary.applicationName())) {
+            sessionVariables.put("application_name", transactionBoundary.applicationName());
+        }
+
+        if (!"0s".equals(transactionBoundary.idleTimeout())) {
+            sessionVariables.put("idle_in_transaction_session_timeout", transactionBoundary.idleTimeout());
+        }
+
+        List<String> modes = new ArrayList<>();
+
+        if (transactionBoundary.readOnly()) {
+            modes.add("READ ONLY");
+        }
+
+        TimeTravel timeTravel = transactionBoundary.timeTravel();
+
+        // Bounded staleness reads run as implicit transactions with the clause on each statement
+        if (TransactionBoundaryAttributeSource.isBoundedStaleness(timeTravel.mode())) {
+            String maxStaleness = timeTravel.interval().replaceFirst("^\\s*-", "").trim();
+            String clause = "AS OF SYSTEM TIME with_max_staleness('" + maxStaleness.replace("'", "''") + "'"
+                    + (timeTravel.mode().equals(TimeTravelMode.NEAREST_REPLICA) ? ", true)" : ")");
+            return new TransactionPlan(Collections.emptyMap(), null, null, Collections.emptyMap(), clause);
+        }
+
+        if (timeTravel.mode().equals(TimeTravelMode.FOLLOWER_READ)) {
+            modes.add("AS OF SYSTEM TIME follower_read_timestamp()");
+        } else if (timeTravel.mode().equals(TimeTravelMode.HISTORICAL_READ)) {
+            modes.add("AS OF SYSTEM TIME INTERVAL '" + timeTravel.interval() + "'");
+        }
+
+        Map<TransactionPriority, String> escalatedSql = new EnumMap<>(TransactionPriority.class);
+        for (TransactionPriority priority : TransactionPriority.values()) {
+            List<String> escalatedModes = new ArrayList<>();
+            escalatedModes.add("PRIORITY " + priority.name());
+            escalatedModes.addAll(modes);
+            escalatedSql.put(priority, setTransaction(escalatedModes));
+        }
+
+        List<String> firstModes = new ArrayList<>();
+        List<String> retryModes = new ArrayList<>();
+
+        // Retry priority overrides priority, and only applies on retry attempts
+        if (!TransactionPriority.NORMAL.equals(transactionBoundary.retryPriority())) {
+            retryModes.add("PRIORITY " + transactionBoundary.retryPriority().name());
+        } else if (!TransactionPriority.NORMAL.equals(transactionBoundary.priority())) {
+            firstModes.add("PRIORITY " + transactionBoundary.priority().name());
+            retryModes.add("PRIORITY " + transactionBoundary.priority().name());
+        }
+
+        firstModes.addAll(modes);
+        retryModes.addAll(modes);
+
+        boolean explicitPriority = !TransactionPriority.NORMAL.equals(transactionBoundary.priority());
+        boolean explicitRetryPriority = !TransactionPriority.NORMAL.equals(transactionBoundary.retryPriority());
+
+        return new TransactionPlan(sessionVariables,
+                setTransaction(firstModes),
+                setTransaction(retryModes),
+                explicitPriority || explicitRetryPriority ? Collections.emptyMap() : escalatedSql,
+                null);
+    }
+
+    private static String setTransaction(List<String> modes) {
+        return modes.isEmpty() ? null : "SET TRANSACTION " + String.join(", ", modes);
+    }
+
+    private final Map<String, String> sessionVariables;
+
+    private final String transactionSql;
+
+    private final String retryTransactionSql;
+
+    private final Map<TransactionPriority, String> escalatedSql;
+
+    private final String staleReadClause;
+
+    private TransactionPlan(Map<String, String> sessionVariables,
+                            String transactionSql,
+                            String retryTransactionSql,
+                            Map<TransactionPriority, String> escalatedSql,
+                            String staleReadClause) {
+        this.sessionVariables = Collections.unmodifiableMap(sessionVariables);
+        this.transactionSql = transactionSql;
+        this.retryTransactionSql = retryTransactionSql;
+        this.escalatedSql = escalatedSql;
+        this.staleReadClause = staleReadClause;
+    }
+
+    /**
+     * @return the bounded staleness clause for each read statement, or null if not a bounded staleness read
+     */
+    String staleReadClause() {
+        return staleReadClause;
+    }
+
+    /**
+     * @return session variables to set, if changed
+     */
+    Map<String, String> sessionVariables() {
+        return sessionVariables;
+    }
+
+    /**
+     * @param attempt the method call attempt, starting at 1
+     * @return the transaction modes statement or null if none
+     */
+    String transactionSql(int attempt) {
+        return attempt > 1 ? retryTransactionSql : transactionSql;
+    }
+
+    /**
+     * @param attempt   the method call attempt, starting at 1
+     * @param escalated the escalated priority, which only applies if the method
+     *                  doesn't declare a priority
+     * @return the transaction modes statement or null if none
+     */
+    String transactionSql(int attempt, TransactionPriority escalated) {
+        if (escalated != null && escalatedSql.containsKey(escalated)) {
+            return escalatedSql.get(escalated);
+        }
+        return transactionSql(attempt);
+    }
+}
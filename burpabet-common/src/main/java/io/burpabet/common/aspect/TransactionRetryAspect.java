@@ -1,6 +1,5 @@
 package io.burpabet.common.aspect;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.sql.SQLException;
 import java.time.Duration;
@@ -10,10 +9,13 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.core.NestedExceptionUtils;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.ConcurrencyFailureException;
 import io.burpabet.common.annotations.Retryable;
+import io.burpabet.common.annotations.TransactionPriority;
+import io.burpabet.common.aspect.RetryStatistics.Outcome;
+import io.burpabet.common.jfr.RetryBackoffEvent;
+import io.burpabet.common.jfr.TransactionBoundaryEvent;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -52,14 +54,28 @@ public class TransactionRetryAspect {
 
     public static final String RETRY_ASPECT_CALL_COUNT = "TransactionRetryAspect.retryAttempt";
 
-    static <A extends Annotation> A findAnnotation(ProceedingJoinPoint pjp, Class<A> annotationType) {
-        return AnnotationUtils.findAnnotation(pjp.getSignature().getDeclaringType(), annotationType);
-    }
+    public static final String RETRY_ASPECT_PRIORITY = "TransactionRetryAspect.priority";
 
     private final RetryHandler retryHandler;
 
+    private final RetryStatistics retryStatistics;
+
+    private final MethodPlanRegistry<Retryable, RetryPlan> retryPlans
+            = new MethodPlanRegistry<>(Retryable.class, RetryPlan::compile);
+
     public TransactionRetryAspect(RetryHandler retryHandler) {
+        this(retryHandler, new RetryStatistics());
+    }
+
+    public TransactionRetryAspect(RetryHandler retryHandler, RetryStatistics retryStatistics) {
+        Assert.notNull(retryHandler, "retryHandler is null");
+        Assert.notNull(retryStatistics, "retryStatistics is null");
         this.retryHandler = retryHandler;
+        this.retryStatistics = retryStatistics;
+    }
+
+    public RetryStatistics getRetryStatistics() {
+        return retryStatistics;
     }
 
     @Around(value = "io.burpabet.common.aspect.Pointcuts.anyRetryableOperation(retryable)",
@@ -68,27 +84,45 @@ public class TransactionRetryAspect {
         Assert.isTrue(!TransactionSynchronizationManager.isActualTransactionActive(),
                 "Expecting no active transaction - check advice @Order and @EnableTransactionManagement order");
 
-        // Grab from type if needed (for non-annotated methods)
-        if (retryable == null) {
-            retryable = AnnotationUtils.findAnnotation(pjp.getSignature().getDeclaringType(), Retryable.class);
-        }
+        RetryPlan plan = retryPlans.lookup(pjp, retryable);
+
+        int retryAttempts = plan.retryAttempts();
+        long maxBackoff = plan.maxBackoff();
 
-        Assert.notNull(retryable, "No @Retryable annotation found!?");
+        RetryBudget retryBudget = RetryBudget.current();
+        if (retryBudget != null) {
+            retryAttempts = Math.min(retryAttempts, retryBudget.retryAttempts());
+            maxBackoff = Math.min(maxBackoff, retryBudget.maxBackoff());
+        }
 
         int methodCalls = 0;
+        long backoffNanos = 0;
         SQLException sqlException = null;
 
         final Instant callTime = Instant.now();
 
         do {
             final Throwable throwable;
+            boolean transientFailure = false;
+
+            methodCalls++;
+
+            long waitTime = System.nanoTime();
+            retryHandler.beforeAttempt(pjp.getSignature(), methodCalls);
+            backoffNanos += System.nanoTime() - waitTime;
+
             try {
-                methodCalls++;
+                TransactionPriority priority = retryHandler.transactionPriority(pjp.getSignature(), methodCalls);
 
                 TransactionSynchronizationManager.bindResource(RETRY_ASPECT_CALL_COUNT, methodCalls);
+                if (priority != null) {
+                    TransactionSynchronizationManager.bindResource(RETRY_ASPECT_PRIORITY, priority);
+                }
 
                 Object rv = pjp.proceed();
 
+                retryStatistics.recordCall(pjp.getSignature(), methodCalls, backoffNanos, Outcome.SUCCESS);
+
                 if (methodCalls > 1) {
                     retryHandler.handleTransientExceptionRecovery(sqlException, methodCalls, pjp.getSignature(),
                             Duration.between(callTime, Instant.now()));
@@ -97,31 +131,53 @@ public class TransactionRetryAspect {
                 return rv;
             } catch (UndeclaredThrowableException ex) {
                 throwable = ex.getUndeclaredThrowable();
+                transientFailure = isTransient(throwable);
             } catch (Exception ex) {
                 throwable = ex;
+                transientFailure = isTransient(throwable);
             } finally {
-                TransactionSynchronizationManager.unbindResource(RETRY_ASPECT_CALL_COUNT);
+                TransactionSynchronizationManager.unbindResourceIfPossible(RETRY_ASPECT_CALL_COUNT);
+                TransactionSynchronizationManager.unbindResourceIfPossible(RETRY_ASPECT_PRIORITY);
+                // Always release the permit, including for errors
+                retryHandler.afterAttempt(pjp.getSignature(), methodCalls, transientFailure);
             }
 
             Throwable cause = NestedExceptionUtils.getMostSpecificCause(throwable);
-            if (cause instanceof SQLException) {
+            if (transientFailure) {
                 sqlException = (SQLException) cause;
-                if (retryHandler.isRetryable(sqlException)) {
-                    retryHandler.handleTransientException(sqlException, methodCalls, pjp.getSignature(),
-                            retryable.maxBackoff());
-                } else {
-                    retryHandler.handleNonTransientException(sqlException);
-                    throw throwable;
-                }
+                retryStatistics.recordTransientError(pjp.getSignature(), sqlException.getSQLState());
+
+                RetryBackoffEvent backoffEvent = new RetryBackoffEvent();
+                backoffEvent.begin();
+
+                waitTime = System.nanoTime();
+                retryHandler.handleTransientException(sqlException, methodCalls, pjp.getSignature(),
+                        maxBackoff);
+                backoffNanos += System.nanoTime() - waitTime;
+
+                backoffEvent.complete(pjp.getSignature().toShortString(), methodCalls,
+                        sqlException.getSQLState());
+                TransactionBoundaryEvent.retryAttempt();
             } else {
+                retryStatistics.recordCall(pjp.getSignature(), methodCalls, backoffNanos, Outcome.FAILURE);
+                if (cause instanceof SQLException ex) {
+                    retryHandler.handleNonTransientException(ex);
+                }
                 throw throwable;
             }
-        } while (methodCalls - 1 < retryable.retryAttempts());
+        } while (methodCalls - 1 < retryAttempts);
+
+        retryStatistics.recordCall(pjp.getSignature(), methodCalls, backoffNanos, Outcome.GAVE_UP);
 
         throw new ConcurrencyFailureException(
                 "Too many transient SQL errors (" + methodCalls + ") for method ["
                         + pjp.getSignature().toShortString()
                         + "]. Giving up!");
     }
+
+    private boolean isTransient(Throwable throwable) {
+        return NestedExceptionUtils.getMostSpecificCause(throwable) instanceof SQLException sqlException
+                && retryHandler.isRetryable(sqlException);
+    }
 }
 
@@ -1,5 +1,6 @@
 package io.burpabet.common.domain;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -16,6 +17,9 @@ public abstract class AbstractJourney {
 
     private Jurisdiction jurisdiction;
 
+    // Time the journey was last written to an outbox, for measuring consumer lag
+    private Instant outboxTime;
+
     public UUID getEventId() {
         return eventId;
     }
@@ -64,6 +68,14 @@ public abstract class AbstractJourney {
         this.statusDetail = statusDetail;
     }
 
+    public Instant getOutboxTime() {
+        return outboxTime;
+    }
+
+    public void setOutboxTime(Instant outboxTime) {
+        this.outboxTime = outboxTime;
+    }
+
     public abstract void debugTuples(Map<String, Object> console);
 
     @Override
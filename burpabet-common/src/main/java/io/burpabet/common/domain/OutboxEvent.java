@@ -46,6 +46,14 @@ public abstract class OutboxEvent<T> {
         return eventId;
     }
 
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
     public EventType getEventType() {
         return eventType;
     }
@@ -0,0 +1,223 @@
+package io.burpabet.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.Assert;
+
+/**
+ * Data source decorator that times statement executions, commits and rollbacks through
+ * JDK dynamic proxies and records them in a {@link SqlProfiler}. Each statement is also
+ * logged at TRACE level if the trace logger is enabled, which is the only place SQL and
+ * timings are formatted.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final Set<String> PREPARE_METHODS = Set.of(
+            "prepareStatement", "prepareCall");
+
+    private final SqlProfiler sqlProfiler;
+
+    private final Logger traceLogger;
+
+    public ProfilingDataSource(DataSource targetDataSource, SqlProfiler sqlProfiler, String traceLoggerName) {
+        super(targetDataSource);
+        Assert.notNull(sqlProfiler, "sqlProfiler is null");
+        this.sqlProfiler = sqlProfiler;
+        this.traceLogger = LoggerFactory.getLogger(traceLoggerName);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private void record(String sql, long startNanos, long rows, boolean failed) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        sqlProfiler.recordStatement(sql, elapsedNanos, rows, failed);
+        if (traceLogger.isTraceEnabled()) {
+            traceLogger.trace("{} ({} µs, rows {}{})", sql, elapsedNanos / 1000, rows, failed ? ", failed" : "");
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Class<?> iface = (Class<?>) args[0];
+        if (method.getName().equals("isWrapperFor")) {
+            return iface.isInstance(target) || (Boolean) invoke(target, method, args);
+        }
+        return iface.isInstance(target) ? target : invoke(target, method, args);
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Profiling proxy for " + target;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, target, method, args);
+                case "commit":
+                case "rollback":
+                    if (args == null || args.length == 0) {
+                        return timed(name.equals("commit") ? "COMMIT" : "ROLLBACK", method, args);
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            Object rv = ProfilingDataSource.invoke(target, method, args);
+
+            if (rv instanceof Statement statement) {
+                String sql = PREPARE_METHODS.contains(name) ? (String) args[0] : null;
+                Class<?> type = rv instanceof CallableStatement ? CallableStatement.class
+                        : rv instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+                        new Class<?>[] {type}, new StatementHandler(statement, (Connection) proxy, sql));
+            }
+            return rv;
+        }
+
+        private Object timed(String sql, Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object rv = ProfilingDataSource.invoke(target, method, args);
+                failed = false;
+                return rv;
+            } finally {
+                record(sql, start, -1, failed);
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement target;
+
+        private final Connection connectionProxy;
+
+        private String sql;
+
+        StatementHandler(Statement target, Connection connectionProxy, String sql) {
+            this.target = target;
+            this.connectionProxy = connectionProxy;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Profiling proxy for " + target;
+                case "getConnection":
+                    return connectionProxy;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, target, method, args);
+                case "addBatch":
+                    if (sql == null && args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (!EXECUTE_METHODS.contains(name)) {
+                return ProfilingDataSource.invoke(target, method, args);
+            }
+
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+
+            long start = System.nanoTime();
+            long rows = -1;
+            boolean failed = true;
+            try {
+                Object rv = ProfilingDataSource.invoke(target, method, args);
+                rows = rowsAffected(name, rv);
+                failed = false;
+                return rv;
+            } finally {
+                record(statementSql != null ? statementSql : SqlProfiler.OTHER, start, rows, failed);
+            }
+        }
+
+        private long rowsAffected(String name, Object rv) throws SQLException {
+            if (rv instanceof Integer n) {
+                return n;
+            }
+            if (rv instanceof Long n) {
+                return n;
+            }
+            if (rv instanceof int[] counts) {
+                long sum = 0;
+                for (int n : counts) {
+                    sum += Math.max(n, 0);
+                }
+                return sum;
+            }
+            if (rv instanceof long[] counts) {
+                long sum = 0;
+                for (long n : counts) {
+                    sum += Math.max(n, 0);
+                }
+                return sum;
+            }
+            if (rv instanceof Boolean hasResultSet && !hasResultSet && name.equals("execute")) {
+                return target.getUpdateCount();
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package io.burpabet.common.jdbc;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free SQL statement profiler fed by the {@link ProfilingDataSource}. Statements are
+ * aggregated per SQL string (the statement shape, since parameters are bound separately)
+ * with a latency histogram of power-of-two microsecond buckets, rows affected and errors.
+ * Round trips are also aggregated per transaction boundary method, through
+ * {@link #enterBoundary()} and {@link #exitBoundary(String, Object)}.
+ * <p>
+ * Recording a statement is a map lookup on the (hash cached) SQL string and a few
+ * counter increments, without any string formatting.
+ */
+public class SqlProfiler {
+    public static final String OTHER = "(other)";
+
+    private static final int BUCKETS = 40;
+
+    private static final ThreadLocal<BoundaryScope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private final Map<String, StatementStatistics> statements = new ConcurrentHashMap<>();
+
+    private final Map<String, BoundaryStatistics> boundaries = new ConcurrentHashMap<>();
+
+    private int maxStatements = 1000;
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Record one statement execution (or commit/rollback) round trip.
+     *
+     * @param sql          the SQL statement
+     * @param elapsedNanos the execution time
+     * @param rows         rows affected or -1 if unknown
+     * @param failed       true if the execution failed
+     */
+    public void recordStatement(String sql, long elapsedNanos, long rows, boolean failed) {
+        StatementStatistics s = statements.get(sql);
+        if (s == null) {
+            String key = statements.size() < maxStatements ? sql : OTHER;
+            s = statements.computeIfAbsent(key, StatementStatistics::new);
+        }
+        s.record(elapsedNanos, rows, failed);
+
+        BoundaryScope scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.roundTrips++;
+        }
+    }
+
+    /**
+     * Start counting round trips for a transaction boundary on the current thread.
+     *
+     * @return the enclosing scope to pass to {@link #exitBoundary(String, Object)}
+     */
+    public Object enterBoundary() {
+        BoundaryScope previous = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.set(new BoundaryScope());
+        return previous;
+    }
+
+    /**
+     * Stop counting round trips for a transaction boundary and restore the enclosing scope.
+     *
+     * @param method   the transaction boundary method
+     * @param previous the enclosing scope returned by {@link #enterBoundary()}
+     */
+    public void exitBoundary(String method, Object previous) {
+        BoundaryScope scope = CURRENT_SCOPE.get();
+        if (previous != null) {
+            CURRENT_SCOPE.set((BoundaryScope) previous);
+        } else {
+            CURRENT_SCOPE.remove();
+        }
+        if (scope != null) {
+            boundaries.computeIfAbsent(method, BoundaryStatistics::new).record(scope.roundTrips);
+        }
+    }
+
+    public void reset() {
+        statements.clear();
+        boundaries.clear();
+    }
+
+    /**
+     * @param limit max number of statements
+     * @return statements ordered by total execution time, descending
+     */
+    public List<StatementSnapshot> topStatements(int limit) {
+        return statements.values().stream()
+                .map(StatementStatistics::snapshot)
+                .sorted(Comparator.comparing(StatementSnapshot::totalTime).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @param limit max number of transaction boundaries
+     * @return transaction boundaries ordered by total round trips, descending
+     */
+    public List<BoundarySnapshot> topBoundaries(int limit) {
+        return boundaries.values().stream()
+                .map(BoundaryStatistics::snapshot)
+                .sorted(Comparator.comparingLong(BoundarySnapshot::roundTrips).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static final class BoundaryScope {
+        int roundTrips;
+    }
+
+    public record StatementSnapshot(String sql,
+                                    long calls,
+                                    long errors,
+                                    long rows,
+                                    Duration totalTime,
+                                    Duration mean,
+                                    Duration p50,
+                                    Duration p99,
+                                    Duration max) {
+    }
+
+    public record BoundarySnapshot(String method,
+                                   long calls,
+                                   long roundTrips,
+                                   double roundTripsPerCall,
+                                   long maxRoundTrips) {
+    }
+
+    private static class StatementStatistics {
+        final String sql;
+
+        final LongAdder calls = new LongAdder();
+
+        final LongAdder errors = new LongAdder();
+
+        final LongAdder rows = new LongAdder();
+
+        final LongAdder totalNanos = new LongAdder();
+
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        StatementStatistics(String sql) {
+            this.sql = sql;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long elapsedNanos, long rowCount, boolean failed) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (rowCount > 0) {
+                rows.add(rowCount);
+            }
+            if (failed) {
+                errors.increment();
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+            histogram[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+        }
+
+        StatementSnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                total += counts[i];
+            }
+            long n = calls.sum();
+            long nanos = totalNanos.sum();
+            Duration max = Duration.ofNanos(maxNanos.get());
+            return new StatementSnapshot(sql, n, errors.sum(), rows.sum(),
+                    Duration.ofNanos(nanos),
+                    Duration.ofNanos(n > 0 ? nanos / n : 0),
+                    percentile(counts, total, 0.5, max),
+                    percentile(counts, total, 0.99, max),
+                    max);
+        }
+
+        /**
+         * @return the upper bound of the histogram bucket holding the percentile, capped by the max
+         */
+        private static Duration percentile(long[] counts, long total, double percentile, Duration max) {
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    Duration upperBound = Duration.of(i == 0 ? 0 : 1L << i, ChronoUnit.MICROS);
+                    return upperBound.compareTo(max) < 0 ? upperBound : max;
+                }
+            }
+            return Duration.ZERO;
+        }
+    }
+
+    private static class BoundaryStatistics {
+        final String method;
+
+        final LongAdder calls = new LongAdder();
+
+        final LongAdder roundTrips = new LongAdder();
+
+        final LongAccumulator maxRoundTrips = new LongAccumulator(Long::max, 0);
+
+        BoundaryStatistics(String method) {
+            this.method = method;
+        }
+
+        void record(int count) {
+            calls.increment();
+            roundTrips.add(count);
+            maxRoundTrips.accumulate(count);
+        }
+
+        BoundarySnapshot snapshot() {
+            long n = calls.sum();
+            long trips = roundTrips.sum();
+            return new BoundarySnapshot(method, n, trips, n > 0 ? (double) trips / n : 0, maxRoundTrips.get());
+        }
+    }
+}
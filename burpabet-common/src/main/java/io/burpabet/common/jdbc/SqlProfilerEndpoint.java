@@ -0,0 +1,36 @@
+package io.burpabet.common.jdbc;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Actuator endpoint exposing the {@link SqlProfiler} statistics at {@code /actuator/sqlprofile}.
+ * A DELETE request resets the statistics.
+ */
+@Endpoint(id = "sqlprofile")
+public class SqlProfilerEndpoint {
+    private final SqlProfiler sqlProfiler;
+
+    public SqlProfilerEndpoint(SqlProfiler sqlProfiler) {
+        Assert.notNull(sqlProfiler, "sqlProfiler is null");
+        this.sqlProfiler = sqlProfiler;
+    }
+
+    @ReadOperation
+    public Map<String, List<?>> profile(@Nullable Integer limit) {
+        int n = limit != null ? limit : 25;
+        return Map.of("statements", sqlProfiler.topStatements(n),
+                "boundaries", sqlProfiler.topBoundaries(n));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlProfiler.reset();
+    }
+}
@@ -0,0 +1,36 @@
+package io.burpabet.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a (multi-row) outbox table write.
+ */
+@Name("io.burpabet.OutboxWrite")
+@Label("Outbox Write")
+@Category({"Burpabet", "Outbox"})
+@Description("Outbox events written to an outbox table in one statement")
+@StackTrace(false)
+public class OutboxWriteEvent extends Event {
+    @Label("Table")
+    private String table;
+
+    @Label("Events")
+    private int events;
+
+    /**
+     * End timing and commit if within the threshold.
+     */
+    public void complete(String table, int events) {
+        end();
+        if (shouldCommit()) {
+            this.table = table;
+            this.events = events;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.burpabet.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the backoff delay before a transaction retry attempt.
+ */
+@Name("io.burpabet.RetryBackoff")
+@Label("Retry Backoff")
+@Category({"Burpabet", "Transaction"})
+@Description("Backoff delay after a transient SQL error before retrying a transaction")
+@StackTrace(false)
+public class RetryBackoffEvent extends Event {
+    @Label("Method")
+    private String method;
+
+    @Label("Attempt")
+    private int attempt;
+
+    @Label("SQL State")
+    private String sqlState;
+
+    /**
+     * End timing and commit if within the threshold.
+     */
+    public void complete(String method, int attempt, String sqlState) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.attempt = attempt;
+            this.sqlState = sqlState;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.burpabet.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a saga step, which is a journey event handled by a saga listener.
+ */
+@Name("io.burpabet.SagaStep")
+@Label("Saga Step")
+@Category({"Burpabet", "Saga"})
+@Description("Journey event handled by a saga step listener")
+@StackTrace(false)
+public class SagaStepEvent extends Event {
+    @Label("Listener")
+    private String listener;
+
+    @Label("Event Type")
+    private String eventType;
+
+    @Label("Journey Status")
+    private String status;
+
+    @Label("Entity Id")
+    private String entityId;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * End timing and commit if within the threshold.
+     */
+    public void complete(String listener, String eventType, String status, String entityId, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.listener = listener;
+            this.eventType = eventType;
+            this.status = status;
+            this.entityId = entityId;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
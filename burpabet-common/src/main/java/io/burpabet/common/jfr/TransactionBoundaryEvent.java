@@ -0,0 +1,70 @@
+package io.burpabet.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a transaction boundary invocation, spanning all retry attempts.
+ * Retries are counted through {@link #retryAttempt()} while the event is the
+ * current one on the thread.
+ */
+@Name("io.burpabet.TransactionBoundary")
+@Label("Transaction Boundary")
+@Category({"Burpabet", "Transaction"})
+@Description("Transaction boundary invocation including retries")
+@StackTrace(false)
+public class TransactionBoundaryEvent extends Event {
+    private static final ThreadLocal<TransactionBoundaryEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Method")
+    private String method;
+
+    @Label("Attempts")
+    private int attempts = 1;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Count a retry attempt for the current transaction boundary, if recorded.
+     */
+    public static void retryAttempt() {
+        TransactionBoundaryEvent event = CURRENT.get();
+        if (event != null) {
+            event.attempts++;
+        }
+    }
+
+    /**
+     * Begin timing and make this the current event on the thread.
+     *
+     * @return the enclosing event to pass to {@link #exit(Object, String, boolean)}
+     */
+    public Object enter() {
+        TransactionBoundaryEvent previous = CURRENT.get();
+        CURRENT.set(this);
+        begin();
+        return previous;
+    }
+
+    /**
+     * End timing, restore the enclosing event and commit if within the threshold.
+     */
+    public void exit(Object previous, String method, boolean failed) {
+        end();
+        if (previous != null) {
+            CURRENT.set((TransactionBoundaryEvent) previous);
+        } else {
+            CURRENT.remove();
+        }
+        if (shouldCommit()) {
+            this.method = method;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Custom JDK Flight Recorder events for transaction boundaries, retry backoffs,
+ * outbox writes and saga steps. The events cost next to nothing unless a
+ * recording is running with the events enabled.
+ */
+package io.burpabet.common.jfr;
@@ -0,0 +1,41 @@
+package io.burpabet.common.jpa;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Routing data source that sends read-only transactions to a separate read pool
+ * and everything else to the write pool, so read bursts can't starve writers of
+ * connections. Transaction boundaries with a time travel mode are read-only
+ * (see {@link io.burpabet.common.aspect.TransactionBoundaryAttributeSource}).
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this data
+ * source must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * which defers the connection lookup to the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        READ_WRITE,
+        READ_ONLY
+    }
+
+    public ReadWriteRoutingDataSource(DataSource writeDataSource, DataSource readDataSource) {
+        Assert.notNull(writeDataSource, "writeDataSource is null");
+        Assert.notNull(readDataSource, "readDataSource is null");
+        setTargetDataSources(Map.of(Route.READ_WRITE, writeDataSource, Route.READ_ONLY, readDataSource));
+        setDefaultTargetDataSource(writeDataSource);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.READ_ONLY : Route.READ_WRITE;
+    }
+}
@@ -0,0 +1,81 @@
+package io.burpabet.common.jpa;
+
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that adds an {@code AS OF SYSTEM TIME} clause to the
+ * select statements issued in a bounded staleness scope. CockroachDB only supports
+ * bounded staleness reads for statements reading from a single range, so only single-table
+ * selects (typically point lookups) get the bounded staleness clause. Selects with joins
+ * fall back to an exact staleness follower read, and other statements are left as is.
+ * <p>
+ * Configured with the {@code hibernate.session_factory.statement_inspector} property.
+ */
+public class StaleReadStatementInspector implements StatementInspector {
+    public static final String FOLLOWER_READ_CLAUSE = "AS OF SYSTEM TIME follower_read_timestamp()";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private static final String[] TRAILING_CLAUSES = {
+            " where ", " group by ", " order by ", " limit ", " offset ", " fetch ", " for "
+    };
+
+    /**
+     * Bind a bounded staleness clause to the current thread.
+     *
+     * @param clause the AS OF SYSTEM TIME clause
+     * @return the previously bound clause or null
+     */
+    public static String bind(String clause) {
+        String previous = CURRENT.get();
+        CURRENT.set(clause);
+        return previous;
+    }
+
+    /**
+     * Restore a previously bound clause, or clear if null.
+     */
+    public static void restore(String previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String clause = CURRENT.get();
+        if (clause == null) {
+            return sql;
+        }
+
+        String lower = sql.toLowerCase(Locale.ROOT);
+        if (!lower.startsWith("select ")) {
+            return sql;
+        }
+
+        int from = lower.indexOf(" from ");
+        // Leave sub-queries and the like alone
+        if (from < 0 || lower.indexOf(" from ", from + 1) >= 0 || lower.contains(" as of system time ")) {
+            return sql;
+        }
+
+        int end = sql.length();
+        for (String trailing : TRAILING_CLAUSES) {
+            int idx = lower.indexOf(trailing, from);
+            if (idx >= 0 && idx < end) {
+                end = idx;
+            }
+        }
+
+        String fromList = lower.substring(from, end);
+        boolean singleTable = !fromList.contains(" join ") && !fromList.contains(",");
+
+        return sql.substring(0, end)
+                + " " + (singleTable ? clause : FOLLOWER_READ_CLAUSE)
+                + sql.substring(end);
+    }
+}
@@ -0,0 +1,30 @@
+package io.burpabet.common.kafka;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pauses the saga listeners while the write connection pool is saturated when enabled,
+ * rather than letting them fail on connection timeouts. Expects the write pool
+ * to be a bean named {@code targetDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.kafka.backpressure.enabled", havingValue = "true")
+public class KafkaBackpressureConfiguration {
+    @Bean
+    @ConfigurationProperties("app.kafka.backpressure")
+    public PoolBackpressureController poolBackpressureController(
+            @Qualifier("targetDataSource") HikariDataSource dataSource,
+            KafkaListenerEndpointRegistry registry,
+            MeterRegistry meterRegistry) {
+        return new PoolBackpressureController(dataSource, registry, meterRegistry);
+    }
+}
@@ -0,0 +1,68 @@
+package io.burpabet.common.kafka;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+import io.burpabet.common.aspect.RetryBudget;
+
+/**
+ * Non-blocking retries for the saga listeners when enabled. Records failing with a
+ * transient data access error are forwarded to delay topics and finally to a dead
+ * letter topic, while the in-place transaction retries on the listener threads are
+ * capped by a {@link RetryBudget} so that the main topic partitions keep moving.
+ * <p>
+ * The retry and DLT topic suffixes include the application name since the main
+ * topics are consumed by more than one service.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.kafka.retry-topics.enabled", havingValue = "true")
+public class KafkaRetryConfiguration {
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${app.kafka.retry-topics.attempts}")
+    private int attempts;
+
+    @Value("${app.kafka.retry-topics.initial-interval}")
+    private long initialInterval;
+
+    @Value("${app.kafka.retry-topics.multiplier}")
+    private double multiplier;
+
+    @Value("${app.kafka.retry-topics.max-interval}")
+    private long maxInterval;
+
+    @Value("${app.kafka.retry-topics.partitions}")
+    private int partitions;
+
+    @Value("${app.kafka.retry-topics.in-place-attempts}")
+    private int inPlaceAttempts;
+
+    @Value("${app.kafka.retry-topics.in-place-max-backoff}")
+    private long inPlaceMaxBackoff;
+
+    @Bean
+    public RetryBudget listenerRetryBudget() {
+        return new RetryBudget(inPlaceAttempts, inPlaceMaxBackoff);
+    }
+
+    @Bean
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaTemplate<?, ?> kafkaTemplate) {
+        return RetryTopicConfigurationBuilder
+                .newInstance()
+                .exponentialBackoff(initialInterval, multiplier, maxInterval)
+                .maxAttempts(attempts)
+                .retryOn(TransientDataAccessException.class)
+                .traversingCauses()
+                .retryTopicSuffix("-" + applicationName + "-retry")
+                .dltSuffix("-" + applicationName + "-dlt")
+                .autoCreateTopicsWith(partitions, (short) -1)
+                .create(kafkaTemplate);
+    }
+}
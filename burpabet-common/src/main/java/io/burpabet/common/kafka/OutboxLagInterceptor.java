@@ -0,0 +1,71 @@
+package io.burpabet.common.kafka;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.BetSettlement;
+import io.burpabet.common.domain.OutboxEvent;
+import io.burpabet.common.domain.Registration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.util.Assert;
+
+/**
+ * Listener container record interceptor that records the lag between the time a
+ * journey was written to an outbox and the time it's received by a listener, as
+ * timers per topic and aggregate type.
+ * <p>
+ * The lag includes the CDC/relay and broker latency and is subject to clock skew
+ * between the producing and consuming service.
+ */
+public class OutboxLagInterceptor implements RecordInterceptor<Object, Object> {
+    public static final String METER_NAME = "burpabet.outbox.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OutboxLagInterceptor(MeterRegistry meterRegistry) {
+        Assert.notNull(meterRegistry, "meterRegistry is null");
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+                                                    Consumer<Object, Object> consumer) {
+        if (record.value() instanceof OutboxEvent<?> event
+                && event.getPayload() instanceof AbstractJourney journey
+                && journey.getOutboxTime() != null) {
+            Duration lag = Duration.between(journey.getOutboxTime(), Instant.now());
+            timer(record.topic(), aggregateType(journey)).record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+        return record;
+    }
+
+    private Timer timer(String topic, String aggregateType) {
+        return timers.computeIfAbsent(topic + ":" + aggregateType, k -> Timer.builder(METER_NAME)
+                .description("Time between outbox write and listener receipt")
+                .tag("topic", topic)
+                .tag("aggregate", aggregateType)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static String aggregateType(AbstractJourney journey) {
+        if (journey instanceof Registration) {
+            return "registration";
+        } else if (journey instanceof BetPlacement) {
+            return "placement";
+        } else if (journey instanceof BetSettlement) {
+            return "settlement";
+        }
+        return journey.getClass().getSimpleName();
+    }
+}
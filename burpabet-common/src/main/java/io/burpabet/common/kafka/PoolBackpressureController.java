@@ -0,0 +1,231 @@
+package io.burpabet.common.kafka;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.util.Assert;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Backpressure controller that samples the Hikari pool load, defined as
+ * {@code (active + pending) / max} connections, and pauses the Kafka listener
+ * containers when the load reaches the pause threshold. The containers are resumed
+ * once the load drops to the resume threshold. Paused containers stop polling after
+ * the current batch, so records wait in Kafka rather than failing on connection
+ * timeouts and feeding the retry aspect.
+ * <p>
+ * Only containers paused by this controller are resumed by it. As a {@link TaskDecorator}
+ * it also holds back async task submissions while paused, for up to the max intake delay.
+ */
+public class PoolBackpressureController implements SmartLifecycle, TaskDecorator {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final HikariDataSource dataSource;
+
+    private final KafkaListenerEndpointRegistry registry;
+
+    private final Set<String> pausedContainers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong loadPermille = new AtomicLong();
+
+    // Not a monitor, since waiting in synchronized would pin virtual threads
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition resumed = lock.newCondition();
+
+    private Counter pauseCounter;
+
+    private long sampleInterval = 200;
+
+    private double pauseThreshold = 1.0;
+
+    private double resumeThreshold = 0.75;
+
+    private long maxIntakeDelay = 5000;
+
+    private ScheduledExecutorService executorService;
+
+    private volatile boolean paused;
+
+    private volatile boolean running;
+
+    public PoolBackpressureController(HikariDataSource dataSource,
+                                      KafkaListenerEndpointRegistry registry,
+                                      MeterRegistry meterRegistry) {
+        Assert.notNull(dataSource, "dataSource is null");
+        Assert.notNull(registry, "registry is null");
+        this.dataSource = dataSource;
+        this.registry = registry;
+        if (meterRegistry != null) {
+            this.pauseCounter = Counter.builder("burpabet.backpressure.pauses")
+                    .description("Listener pauses due to connection pool saturation")
+                    .register(meterRegistry);
+            Gauge.builder("burpabet.backpressure.load", loadPermille, v -> v.get() / 1000.0)
+                    .description("Connection pool load (active + pending) / max")
+                    .register(meterRegistry);
+            Gauge.builder("burpabet.backpressure.paused", this, c -> c.isPaused() ? 1 : 0)
+                    .description("Listeners paused due to connection pool saturation")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Set the pool sampling interval in millis.
+     */
+    public void setSampleInterval(long sampleInterval) {
+        Assert.isTrue(sampleInterval > 0, "sampleInterval must be > 0");
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * Set the pool load at or above which listeners are paused, where 1.0 means
+     * all connections in use and anything above means callers waiting for one.
+     */
+    public void setPauseThreshold(double pauseThreshold) {
+        this.pauseThreshold = pauseThreshold;
+    }
+
+    /**
+     * Set the pool load at or below which paused listeners are resumed.
+     */
+    public void setResumeThreshold(double resumeThreshold) {
+        this.resumeThreshold = resumeThreshold;
+    }
+
+    /**
+     * Set the max time in millis an async task submission is held back while paused.
+     */
+    public void setMaxIntakeDelay(long maxIntakeDelay) {
+        this.maxIntakeDelay = maxIntakeDelay;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        if (paused) {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(maxIntakeDelay);
+            lock.lock();
+            try {
+                while (paused && remaining > 0) {
+                    remaining = resumed.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return runnable;
+    }
+
+    @Override
+    public void start() {
+        Assert.isTrue(resumeThreshold < pauseThreshold, "resumeThreshold must be < pauseThreshold");
+        this.executorService = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "pool-backpressure");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executorService.scheduleWithFixedDelay(this::sample, sampleInterval, sampleInterval,
+                TimeUnit.MILLISECONDS);
+        this.running = true;
+        logger.info("Started pool backpressure for '{}' (pause at {}, resume at {})",
+                dataSource.getPoolName(), pauseThreshold, resumeThreshold);
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        resume();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start after and stop before the listener containers.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    private void sample() {
+        try {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool == null) {
+                return;
+            }
+            double load = (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                    / dataSource.getMaximumPoolSize();
+            loadPermille.set(Math.round(load * 1000));
+
+            if (!paused && load >= pauseThreshold) {
+                pause(load);
+            } else if (paused && load <= resumeThreshold) {
+                resume();
+                logger.info("Resumed listeners at pool load {}", "%.2f".formatted(load));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Pool backpressure sampling failed", e);
+        }
+    }
+
+    private void pause(double load) {
+        paused = true;
+        for (MessageListenerContainer container : registry.getAllListenerContainers()) {
+            if (container.isRunning() && !container.isPauseRequested()) {
+                container.pause();
+                pausedContainers.add(container.getListenerId());
+            }
+        }
+        if (pauseCounter != null) {
+            pauseCounter.increment();
+        }
+        logger.info("Paused {} listener(s) at pool load {}", pausedContainers.size(), "%.2f".formatted(load));
+    }
+
+    private void resume() {
+        for (String id : pausedContainers) {
+            MessageListenerContainer container = registry.getListenerContainer(id);
+            if (container != null) {
+                container.resume();
+            }
+        }
+        pausedContainers.clear();
+        lock.lock();
+        try {
+            paused = false;
+            resumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
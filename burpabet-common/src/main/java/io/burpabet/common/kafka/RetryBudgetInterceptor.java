@@ -0,0 +1,34 @@
+package io.burpabet.common.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.util.Assert;
+
+import io.burpabet.common.aspect.RetryBudget;
+
+/**
+ * Listener container record interceptor that binds a {@link RetryBudget} to the listener
+ * thread for the duration of each record, so that transient errors are handed off to the
+ * retry topics rather than backing off on the listener thread and stalling the partition.
+ */
+public class RetryBudgetInterceptor implements RecordInterceptor<Object, Object> {
+    private final RetryBudget retryBudget;
+
+    public RetryBudgetInterceptor(RetryBudget retryBudget) {
+        Assert.notNull(retryBudget, "retryBudget is null");
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+                                                    Consumer<Object, Object> consumer) {
+        RetryBudget.bind(retryBudget);
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        RetryBudget.clear();
+    }
+}
@@ -1,21 +1,52 @@
 package io.burpabet.common.outbox;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.burpabet.common.annotations.TransactionMandatory;
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.jfr.OutboxWriteEvent;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import javax.sql.DataSource;
 
+/**
+ * JDBC outbox repository that buffers events in a transaction-bound collector
+ * and writes them as multi-row UPSERTs just before the transaction commits.
+ * <p>
+ * Each aggregate type is routed to a dedicated outbox table (with its own changefeed)
+ * through a configurable routing table, defaulting to {@code outbox_<aggregate type>}.
+ * The tables are created by the schema migrations, so the configured names are
+ * validated against the database once all singletons (including Flyway) are initialized.
+ * The event id, aggregate id, status and payload type are written as typed columns
+ * taken from the {@link AbstractJourney} rather than extracted from the JSON payload.
+ * <p>
+ * Writes issued outside of transaction synchronization (which should not happen
+ * given the mandatory transaction propagation) fall back to single-row UPSERTs.
+ */
 @Repository
-public class OutboxJdbcRepository implements OutboxRepository {
+public class OutboxJdbcRepository implements OutboxRepository, SmartInitializingSingleton {
+    public static final int DEFAULT_BATCH_SIZE = 128;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Autowired
@@ -26,15 +57,85 @@ public class OutboxJdbcRepository implements OutboxRepository {
 
     private JdbcTemplate jdbcTemplate;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private Map<String, String> tables = defaultTables();
+
+    private static Map<String, String> defaultTables() {
+        Map<String, String> tables = new TreeMap<>();
+        tables.put("registration", "outbox_registration");
+        tables.put("placement", "outbox_placement");
+        tables.put("settlement", "outbox_settlement");
+        return tables;
+    }
+
     @PostConstruct
     public void init() {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
     }
 
+    @Override
+    public void afterSingletonsInstantiated() {
+        new HashSet<>(tables.values()).forEach(table -> {
+            try {
+                jdbcTemplate.execute("select 1 from " + table + " where 1=0");
+            } catch (BadSqlGrammarException e) {
+                throw new IllegalStateException("Outbox table not found: " + table
+                        + " - check app.outbox.tables against the schema migrations", e);
+            }
+        });
+    }
+
+    /**
+     * Set the max number of rows written per UPSERT statement on flush.
+     */
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be > 0");
+        this.batchSize = batchSize;
+    }
+
+    public Map<String, String> getTables() {
+        return tables;
+    }
+
+    /**
+     * Set the routing table of aggregate types to outbox table names.
+     */
+    public void setTables(Map<String, String> tables) {
+        tables.values().forEach(table -> Assert.isTrue(table.matches("[a-zA-Z_][a-zA-Z0-9_.]*"),
+                "Illegal outbox table name: " + table));
+        this.tables = new TreeMap<>(tables);
+    }
+
+    @Override
+    public String tableName(String aggregateType) {
+        String table = tables.get(aggregateType);
+        if (table == null) {
+            throw new IllegalArgumentException("No outbox table for aggregate type: " + aggregateType);
+        }
+        return table;
+    }
+
     @Override
     @TransactionMandatory
     public void deleteAllInBatch() {
-        jdbcTemplate.execute("delete from outbox where 1=1");
+        new HashSet<>(tables.values()).forEach(table -> jdbcTemplate.execute("delete from " + table + " where 1=1"));
+    }
+
+    @Override
+    public String toPayload(Object event) {
+        Assert.isInstanceOf(AbstractJourney.class, event, "Expected journey outbox event");
+
+        AbstractJourney journey = (AbstractJourney) event;
+        Assert.notNull(journey.getEventId(), "eventId is null");
+
+        journey.setOutboxTime(Instant.now());
+
+        try {
+            return objectMapper.writer().writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error serializing outbox JSON payload", e);
+        }
     }
 
     @TransactionMandatory
@@ -43,19 +144,102 @@ public class OutboxJdbcRepository implements OutboxRepository {
         Assert.isTrue(TransactionSynchronizationManager.isActualTransactionActive(),
                 "Expected existing transaction - check advisor @Order");
 
-        try {
-            String json = objectMapper.writer().writeValueAsString(event);
+        String json = toPayload(event);
 
-            logger.debug("Writing outbox event: {}", json);
+        logger.debug("Writing outbox event: {}", json);
 
-            jdbcTemplate.update(
-                    "UPSERT INTO outbox (aggregate_type,payload) VALUES (?,?)",
-                    ps -> {
-                        ps.setString(1, aggregateType);
-                        ps.setObject(2, json);
-                    });
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error serializing outbox JSON payload", e);
+        AbstractJourney journey = (AbstractJourney) event;
+
+        OutboxEntry entry = new OutboxEntry(tableName(aggregateType),
+                journey.getEventId(),
+                journey.getEntityId(),
+                journey.getStatus() != null ? journey.getStatus().name() : null,
+                journey.getClass().getSimpleName(),
+                json);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentBuffer().add(entry);
+        } else {
+            flush(Collections.singletonList(entry));
+        }
+    }
+
+    private OutboxBuffer currentBuffer() {
+        OutboxBuffer buffer = (OutboxBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new OutboxBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        return buffer;
+    }
+
+    private void flush(List<OutboxEntry> entries) {
+        Map<String, List<OutboxEntry>> entriesPerTable = new LinkedHashMap<>();
+        entries.forEach(entry -> entriesPerTable.computeIfAbsent(entry.table(), k -> new ArrayList<>()).add(entry));
+        entriesPerTable.forEach(this::flush);
+
+        logger.debug("Flushed {} outbox events", entries.size());
+    }
+
+    private void flush(String table, List<OutboxEntry> entries) {
+        for (int offset = 0; offset < entries.size(); offset += batchSize) {
+            List<OutboxEntry> chunk = entries.subList(offset, Math.min(offset + batchSize, entries.size()));
+
+            StringBuilder sql = new StringBuilder("UPSERT INTO ").append(table)
+                    .append(" (id,aggregate_id,status,payload_type,payload) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i > 0 ? ",(?,?,?,?,?)" : "(?,?,?,?,?)");
+            }
+
+            OutboxWriteEvent event = new OutboxWriteEvent();
+            event.begin();
+
+            jdbcTemplate.update(sql.toString(), ps -> {
+                int idx = 1;
+                for (OutboxEntry entry : chunk) {
+                    ps.setObject(idx++, entry.id());
+                    ps.setObject(idx++, entry.aggregateId());
+                    ps.setString(idx++, entry.status());
+                    ps.setString(idx++, entry.payloadType());
+                    ps.setObject(idx++, entry.payload());
+                }
+            });
+
+            event.complete(table, chunk.size());
+        }
+    }
+
+    private record OutboxEntry(String table, UUID id, UUID aggregateId, String status, String payloadType,
+                               String payload) {
+    }
+
+    private class OutboxBuffer implements TransactionSynchronization {
+        // A multi-row UPSERT can't touch the same row twice, so the last write for an event wins
+        private final Map<UUID, OutboxEntry> entries = new LinkedHashMap<>();
+
+        void add(OutboxEntry entry) {
+            entries.remove(entry.id());
+            entries.put(entry.id(), entry);
+        }
+
+        @Override
+        public void flush() {
+            if (!entries.isEmpty()) {
+                OutboxJdbcRepository.this.flush(new ArrayList<>(entries.values()));
+                entries.clear();
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            entries.clear();
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxJdbcRepository.this);
         }
     }
 }
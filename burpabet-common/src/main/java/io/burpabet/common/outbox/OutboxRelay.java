@@ -0,0 +1,265 @@
+package io.burpabet.common.outbox;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Polling outbox relay that can be used in place of CockroachDB changefeeds
+ * to publish outbox events to Kafka.
+ * <p>
+ * Each worker repeatedly claims a batch of the oldest rows in an outbox table with
+ * {@code FOR UPDATE SKIP LOCKED}, publishes them with the (idempotent) Kafka producer,
+ * waits for the acknowledgements and deletes the rows in the same transaction.
+ * Events are published with the same key and bare envelope format as the
+ * changefeeds, so consumers can't tell the difference. Delivery is at-least-once.
+ * <p>
+ * Note that the relay and the changefeeds must not both be active for the same
+ * outbox tables, since the events would then be published twice.
+ */
+public class OutboxRelay implements SmartLifecycle {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private final Map<String, String> tables;
+
+    private Map<String, String> topics = new TreeMap<>();
+
+    private int batchSize = 256;
+
+    private int parallelism = 1;
+
+    private long pollInterval = 500;
+
+    private long sendTimeout = 30_000;
+
+    private boolean skipLocked = true;
+
+    private ExecutorService executorService;
+
+    private volatile boolean running;
+
+    public OutboxRelay(DataSource dataSource,
+                       PlatformTransactionManager transactionManager,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       Map<String, String> tables) {
+        Assert.notNull(dataSource, "dataSource is null");
+        Assert.notNull(transactionManager, "transactionManager is null");
+        Assert.notNull(kafkaTemplate, "kafkaTemplate is null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.kafkaTemplate = kafkaTemplate;
+        this.tables = Collections.unmodifiableMap(new TreeMap<>(tables));
+    }
+
+    public Map<String, String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Set the mapping of aggregate types to the topics to publish to.
+     */
+    public void setTopics(Map<String, String> topics) {
+        this.topics = new TreeMap<>(topics);
+    }
+
+    /**
+     * Set the max number of rows claimed and published per transaction.
+     */
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be > 0");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Set the number of concurrent relay workers. Without skip locked, each
+     * table is only claimed by a single worker.
+     */
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "parallelism must be > 0");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the delay in millis before polling again after a partial batch.
+     */
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setSendTimeout(long sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Set whether to use {@code FOR UPDATE SKIP LOCKED} when claiming rows, which
+     * allows several workers to claim disjoint batches from the same table.
+     */
+    public void setSkipLocked(boolean skipLocked) {
+        this.skipLocked = skipLocked;
+    }
+
+    @Override
+    public void start() {
+        List<Route> routes = new ArrayList<>();
+        topics.forEach((aggregateType, topic) -> {
+            String table = tables.get(aggregateType);
+            if (table == null) {
+                throw new IllegalStateException("No outbox table for aggregate type: " + aggregateType);
+            }
+            routes.add(new Route(table, topic));
+        });
+
+        int workers = skipLocked ? parallelism : Math.min(parallelism, routes.size());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, workers),
+                r -> new Thread(r, "outbox-relay-" + threadNumber.incrementAndGet()));
+        this.running = true;
+
+        for (int i = 0; i < workers; i++) {
+            List<Route> assigned = new ArrayList<>();
+            for (int j = 0; j < routes.size(); j++) {
+                if (skipLocked || j % workers == i) {
+                    assigned.add(routes.get(j));
+                }
+            }
+            executorService.submit(() -> relayLoop(assigned));
+        }
+
+        logger.info("Started outbox relay with {} worker(s) for {}", workers, routes);
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(sendTimeout, TimeUnit.MILLISECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executorService.shutdownNow();
+            }
+        }
+        kafkaTemplate.flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop(List<Route> routes) {
+        while (running) {
+            boolean fullBatch = false;
+            for (Route route : routes) {
+                try {
+                    fullBatch |= relayBatch(route) == batchSize;
+                } catch (Exception e) {
+                    logger.warn("Outbox relay failed for " + route + " (will retry)", e);
+                }
+            }
+            if (!fullBatch) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int relayBatch(Route route) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(
+                    "SELECT id, aggregate_id, payload::TEXT FROM " + route.table()
+                            + " ORDER BY inserted_at, id LIMIT ? FOR UPDATE"
+                            + (skipLocked ? " SKIP LOCKED" : ""),
+                    (rs, rowNum) -> new OutboxRow(rs.getString(1), rs.getString(2), rs.getString(3)),
+                    batchSize);
+
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<?>> futures = new ArrayList<>(rows.size());
+            rows.forEach(row -> futures.add(kafkaTemplate.send(route.topic(), row.key(), row.envelope())));
+            kafkaTemplate.flush();
+
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                        .get(sendTimeout, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("Error publishing outbox events to " + route.topic(), e);
+            }
+
+            StringBuilder sql = new StringBuilder("DELETE FROM ").append(route.table()).append(" WHERE id IN (");
+            for (int i = 0; i < rows.size(); i++) {
+                sql.append(i > 0 ? ",?" : "?");
+            }
+            sql.append(")");
+
+            jdbcTemplate.update(sql.toString(), ps -> {
+                int idx = 1;
+                for (OutboxRow row : rows) {
+                    ps.setObject(idx++, row.id(), Types.OTHER);
+                }
+            });
+
+            return rows.size();
+        });
+
+        if (count != null && count > 0) {
+            logger.debug("Relayed {} outbox events from {} to {}", count, route.table(), route.topic());
+        }
+
+        return count != null ? count : 0;
+    }
+
+    private record Route(String table, String topic) {
+    }
+
+    private record OutboxRow(String id, String aggregateId, String payload) {
+        String key() {
+            // Same key format as the changefeeds (primary key as JSON array)
+            return "[\"" + id + "\"]";
+        }
+
+        String envelope() {
+            return "{\"event_id\":\"" + id + "\","
+                    + "\"aggregate_id\":" + (aggregateId != null ? "\"" + aggregateId + "\"" : "null") + ","
+                    + "\"event_type\":\"insert\","
+                    + "\"payload\":" + payload + "}";
+        }
+    }
+}
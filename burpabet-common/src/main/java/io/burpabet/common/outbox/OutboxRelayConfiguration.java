@@ -0,0 +1,60 @@
+package io.burpabet.common.outbox;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Polling outbox relay used in place of the CDC changefeeds when enabled.
+ * <p>
+ * The relay has its own idempotent producer factory, which is not exposed as a bean
+ * since that would replace the auto-configured one. It's closed on shutdown after
+ * the relay is stopped and flushed.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayConfiguration implements DisposableBean {
+    @Autowired
+    private KafkaProperties kafkaProperties;
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+
+    @Bean
+    @ConfigurationProperties("app.outbox.relay")
+    public OutboxRelay outboxRelay(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   OutboxJdbcRepository outboxRepository) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+
+        this.producerFactory = new DefaultKafkaProducerFactory<>(props);
+
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        return new OutboxRelay(dataSource, transactionManager, kafkaTemplate, outboxRepository.getTables());
+    }
+
+    @Override
+    public void destroy() {
+        if (producerFactory != null) {
+            producerFactory.destroy();
+        }
+    }
+}
@@ -4,4 +4,15 @@ public interface OutboxRepository {
     void writeEvent(Object event, String aggregateType);
 
     void deleteAllInBatch();
+
+    /**
+     * Resolve the outbox table name for an aggregate type.
+     */
+    String tableName(String aggregateType);
+
+    /**
+     * Stamp and serialize an outbox event to its JSON payload, for callers that write
+     * the outbox row as part of their own (single round-trip) statements.
+     */
+    String toPayload(Object event);
 }
@@ -0,0 +1,287 @@
+package io.burpabet.common.serde;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import io.burpabet.common.domain.AbstractJourney;
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.BetPlacementEvent;
+import io.burpabet.common.domain.BetSettlement;
+import io.burpabet.common.domain.BetSettlementEvent;
+import io.burpabet.common.domain.BetType;
+import io.burpabet.common.domain.EventType;
+import io.burpabet.common.domain.Jurisdiction;
+import io.burpabet.common.domain.OutboxEvent;
+import io.burpabet.common.domain.Registration;
+import io.burpabet.common.domain.RegistrationEvent;
+import io.burpabet.common.domain.Status;
+import io.burpabet.common.util.Money;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Hand-rolled compact binary codec for the saga outbox events.
+ * <p>
+ * Layout: a magic byte and a schema version byte followed by an event kind tag,
+ * the envelope attributes and the journey attributes. Enums are written by ordinal
+ * and the well-known origin values by dictionary index, so any change to the field
+ * order, the enum constants or the origin dictionary requires a new {@link #VERSION}.
+ * <p>
+ * Version history:
+ * <ul>
+ *     <li>1 - initial layout</li>
+ *     <li>2 - adds the journey outbox time</li>
+ * </ul>
+ */
+public class BinaryPayloadCodec implements PayloadCodec {
+    /**
+     * Leading byte of all binary payloads. Can't be confused with JSON payloads
+     * that always start with a '{' or whitespace.
+     */
+    public static final byte MAGIC = (byte) 0xB5;
+
+    public static final byte VERSION = 2;
+
+    private static final byte MIN_VERSION = 1;
+
+    private static final byte KIND_REGISTRATION = 1;
+
+    private static final byte KIND_PLACEMENT = 2;
+
+    private static final byte KIND_SETTLEMENT = 3;
+
+    private static final byte NULL = -1;
+
+    private static final byte INLINE = -2;
+
+    private static final List<String> ORIGINS = List.of("betting-service", "customer-service", "wallet-service");
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 1 && data[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] encode(OutboxEvent<?> event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC);
+            out.writeByte(VERSION);
+
+            Object payload = event.getPayload();
+            if (payload instanceof Registration) {
+                out.writeByte(KIND_REGISTRATION);
+            } else if (payload instanceof BetPlacement) {
+                out.writeByte(KIND_PLACEMENT);
+            } else if (payload instanceof BetSettlement) {
+                out.writeByte(KIND_SETTLEMENT);
+            } else {
+                throw new SerializationException("Unsupported payload type: " + payload);
+            }
+
+            writeUUID(out, event.getEventId());
+            writeUUID(out, event.getAggregateId());
+            writeEnum(out, event.getEventType());
+
+            AbstractJourney journey = (AbstractJourney) payload;
+            writeUUID(out, journey.getEventId());
+            writeUUID(out, journey.getEntityId());
+            writeEnum(out, journey.getStatus());
+            writeString(out, journey.getStatusDetail());
+            writeOrigin(out, journey.getOrigin());
+            writeEnum(out, journey.getJurisdiction());
+            writeInstant(out, journey.getOutboxTime());
+
+            if (payload instanceof Registration registration) {
+                writeUUID(out, registration.getOperatorId());
+                writeString(out, registration.getEmail());
+                writeString(out, registration.getName());
+            } else if (payload instanceof BetPlacement placement) {
+                writeUUID(out, placement.getCustomerId());
+                writeString(out, placement.getCustomerName());
+                writeUUID(out, placement.getRaceId());
+                writeMoney(out, placement.getStake());
+                writeEnum(out, placement.getBetType());
+            } else {
+                BetSettlement settlement = (BetSettlement) payload;
+                writeUUID(out, settlement.getCustomerId());
+                writeMoney(out, settlement.getPayout());
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Error serializing binary payload", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OutboxEvent<?>> T decode(byte[] data, Class<T> type) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != MAGIC) {
+                throw new SerializationException("Not a binary payload");
+            }
+            byte version = in.readByte();
+            if (version < MIN_VERSION || version > VERSION) {
+                throw new SerializationException("Unsupported binary payload version: " + version);
+            }
+
+            byte kind = in.readByte();
+
+            UUID eventId = readUUID(in);
+            UUID aggregateId = readUUID(in);
+            EventType eventType = readEnum(in, EventType.values());
+
+            AbstractJourney journey = switch (kind) {
+                case KIND_REGISTRATION -> new Registration();
+                case KIND_PLACEMENT -> new BetPlacement();
+                case KIND_SETTLEMENT -> new BetSettlement();
+                default -> throw new SerializationException("Unsupported payload kind: " + kind);
+            };
+            journey.setEventId(readUUID(in));
+            journey.setEntityId(readUUID(in));
+            journey.setStatus(readEnum(in, Status.values()));
+            journey.setStatusDetail(readString(in));
+            journey.setOrigin(readOrigin(in));
+            journey.setJurisdiction(readEnum(in, Jurisdiction.values()));
+            if (version >= 2) {
+                journey.setOutboxTime(readInstant(in));
+            }
+
+            OutboxEvent<?> event;
+            if (journey instanceof Registration registration) {
+                registration.setOperatorId(readUUID(in));
+                registration.setEmail(readString(in));
+                registration.setName(readString(in));
+                event = new RegistrationEvent(eventId, eventType, registration);
+            } else if (journey instanceof BetPlacement placement) {
+                placement.setCustomerId(readUUID(in));
+                placement.setCustomerName(readString(in));
+                placement.setRaceId(readUUID(in));
+                placement.setStake(readMoney(in));
+                placement.setBetType(readEnum(in, BetType.values()));
+                event = new BetPlacementEvent(eventId, eventType, placement);
+            } else {
+                BetSettlement settlement = (BetSettlement) journey;
+                settlement.setCustomerId(readUUID(in));
+                settlement.setPayout(readMoney(in));
+                event = new BetSettlementEvent(eventId, eventType, settlement);
+            }
+            event.setAggregateId(aggregateId);
+
+            if (type != null && !type.isInstance(event)) {
+                throw new SerializationException("Expected " + type.getName() + " got " + event.getClass().getName());
+            }
+            return (T) event;
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing binary payload", e);
+        }
+    }
+
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUUID(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeBoolean(instant != null);
+        if (instant != null) {
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : NULL);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        if (ordinal == NULL) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new SerializationException("Unsupported "
+                    + values.getClass().getComponentType().getSimpleName() + " ordinal: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeOrigin(DataOutputStream out, String origin) throws IOException {
+        int idx = origin != null ? ORIGINS.indexOf(origin) : NULL;
+        if (origin != null && idx < 0) {
+            out.writeByte(INLINE);
+            out.writeUTF(origin);
+        } else {
+            out.writeByte(idx);
+        }
+    }
+
+    private static String readOrigin(DataInputStream in) throws IOException {
+        byte idx = in.readByte();
+        return switch (idx) {
+            case NULL -> null;
+            case INLINE -> in.readUTF();
+            default -> {
+                if (idx < 0 || idx >= ORIGINS.size()) {
+                    throw new SerializationException("Unsupported origin index: " + idx);
+                }
+                yield ORIGINS.get(idx);
+            }
+        };
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        out.writeBoolean(money != null);
+        if (money != null) {
+            out.writeUTF(money.getCurrency().getCurrencyCode());
+            out.writeByte(money.getCurrency().getDefaultFractionDigits());
+            byte[] unscaled = BigInteger.valueOf(money.getMinorUnits()).toByteArray();
+            out.writeByte(unscaled.length);
+            out.write(unscaled);
+        }
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Currency currency = Currency.getInstance(in.readUTF());
+        int scale = in.readByte();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        BigInteger units = new BigInteger(unscaled);
+        if (scale == currency.getDefaultFractionDigits()) {
+            return Money.ofMinorUnits(units.longValueExact(), currency);
+        }
+        return Money.of(new BigDecimal(units, scale), currency);
+    }
+}
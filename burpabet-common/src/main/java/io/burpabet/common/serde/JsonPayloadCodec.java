@@ -0,0 +1,43 @@
+package io.burpabet.common.serde;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.burpabet.common.domain.OutboxEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.util.Assert;
+
+/**
+ * Codec for the JSON format used by CockroachDB CDC queries with bare envelopes.
+ */
+public class JsonPayloadCodec implements PayloadCodec {
+    private final ObjectMapper objectMapper;
+
+    public JsonPayloadCodec(ObjectMapper objectMapper) {
+        Assert.notNull(objectMapper, "objectMapper is null");
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(OutboxEvent<?> event) {
+        return encodeValue(event);
+    }
+
+    public byte[] encodeValue(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Error serializing JSON payload", e);
+        }
+    }
+
+    @Override
+    public <T extends OutboxEvent<?>> T decode(byte[] data, Class<T> type) {
+        Assert.notNull(type, "JSON payloads require a target type");
+        try {
+            return objectMapper.readValue(data, type);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing JSON payload to " + type.getName(), e);
+        }
+    }
+}
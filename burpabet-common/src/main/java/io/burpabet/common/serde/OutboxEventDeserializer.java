@@ -0,0 +1,61 @@
+package io.burpabet.common.serde;
+
+import java.util.Map;
+
+import io.burpabet.common.domain.OutboxEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Kafka deserializer for outbox events that detects the payload codec from
+ * the leading byte, since topics can carry both binary payloads produced by
+ * the services and JSON payloads produced by CDC changefeeds.
+ * <p>
+ * JSON payloads are mapped to the target type given in the constructor or by the
+ * {@link #VALUE_DEFAULT_TYPE} property (same as for the Spring Kafka JSON deserializer).
+ *
+ * @param <T> the outbox event type
+ */
+public class OutboxEventDeserializer<T extends OutboxEvent<?>> implements Deserializer<T> {
+    public static final String VALUE_DEFAULT_TYPE = "spring.json.value.default.type";
+
+    private final JsonPayloadCodec jsonCodec = new JsonPayloadCodec(JacksonUtils.enhancedObjectMapper());
+
+    private final BinaryPayloadCodec binaryCodec = new BinaryPayloadCodec();
+
+    private Class<T> targetType;
+
+    public OutboxEventDeserializer() {
+    }
+
+    public OutboxEventDeserializer(Class<T> targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object type = configs.get(VALUE_DEFAULT_TYPE);
+        if (type instanceof Class<?> clazz) {
+            this.targetType = (Class<T>) clazz;
+        } else if (type != null) {
+            try {
+                this.targetType = (Class<T>) ClassUtils.forName(type.toString().trim(), ClassUtils.getDefaultClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new SerializationException("Unable to load type: " + type, e);
+            }
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return BinaryPayloadCodec.isBinary(data)
+                ? binaryCodec.decode(data, targetType)
+                : jsonCodec.decode(data, targetType);
+    }
+}
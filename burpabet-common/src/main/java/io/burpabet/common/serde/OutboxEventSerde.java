@@ -0,0 +1,52 @@
+package io.burpabet.common.serde;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.burpabet.common.domain.OutboxEvent;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka streams serde for outbox events using the codec selection of
+ * {@link OutboxEventSerializer} and {@link OutboxEventDeserializer}.
+ *
+ * @param <T> the outbox event type
+ */
+public class OutboxEventSerde<T extends OutboxEvent<?>> implements Serde<T> {
+    private final OutboxEventSerializer serializer;
+
+    private final OutboxEventDeserializer<T> deserializer;
+
+    public OutboxEventSerde() {
+        this.serializer = new OutboxEventSerializer();
+        this.deserializer = new OutboxEventDeserializer<>();
+    }
+
+    public OutboxEventSerde(Class<T> targetType) {
+        this(targetType, Set.of());
+    }
+
+    public OutboxEventSerde(Class<T> targetType, Set<String> binaryTopics) {
+        this.serializer = new OutboxEventSerializer(binaryTopics);
+        this.deserializer = new OutboxEventDeserializer<>(targetType);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        serializer.configure(configs, isKey);
+        deserializer.configure(configs, isKey);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Serializer<T> serializer() {
+        return (Serializer<T>) (Serializer<?>) serializer;
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return deserializer;
+    }
+}
@@ -0,0 +1,57 @@
+package io.burpabet.common.serde;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import io.burpabet.common.domain.OutboxEvent;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Kafka serializer for outbox events that selects the payload codec per topic.
+ * <p>
+ * Topics listed in the {@link #BINARY_TOPICS} property are encoded with the
+ * {@link BinaryPayloadCodec} and all others with the {@link JsonPayloadCodec}.
+ * Values that are not outbox events are always written as JSON.
+ */
+public class OutboxEventSerializer implements Serializer<Object> {
+    /**
+     * Comma separated list of topics to use the binary codec for.
+     */
+    public static final String BINARY_TOPICS = "burpabet.codec.binary-topics";
+
+    private final JsonPayloadCodec jsonCodec = new JsonPayloadCodec(JacksonUtils.enhancedObjectMapper());
+
+    private final BinaryPayloadCodec binaryCodec = new BinaryPayloadCodec();
+
+    private Set<String> binaryTopics = Collections.emptySet();
+
+    public OutboxEventSerializer() {
+    }
+
+    public OutboxEventSerializer(Set<String> binaryTopics) {
+        this.binaryTopics = Set.copyOf(binaryTopics);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object topics = configs.get(BINARY_TOPICS);
+        if (topics != null) {
+            this.binaryTopics = new HashSet<>(StringUtils.commaDelimitedListToSet(topics.toString().replace(" ", "")));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof OutboxEvent<?> event) {
+            return binaryTopics.contains(topic) ? binaryCodec.encode(event) : jsonCodec.encode(event);
+        }
+        return jsonCodec.encodeValue(data);
+    }
+}
@@ -0,0 +1,13 @@
+package io.burpabet.common.serde;
+
+import io.burpabet.common.domain.OutboxEvent;
+
+/**
+ * Strategy interface for encoding and decoding saga outbox events
+ * to and from their wire format.
+ */
+public interface PayloadCodec {
+    byte[] encode(OutboxEvent<?> event);
+
+    <T extends OutboxEvent<?>> T decode(byte[] data, Class<T> type);
+}
@@ -0,0 +1,47 @@
+package io.burpabet.common.shell;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import io.burpabet.common.aspect.RetryStatistics;
+
+@ShellComponent
+@ShellCommandGroup(CommandGroups.ADMIN)
+public class RetryCommand {
+    @Autowired
+    private RetryStatistics retryStatistics;
+
+    @Autowired
+    private AnsiConsole ansiConsole;
+
+    @ShellMethod(value = "Print transaction boundaries with the most retries", key = {"rs", "retry-stats"})
+    public void retryStats(@ShellOption(help = "max number of entries", defaultValue = "10") int limit,
+                           @ShellOption(help = "reset statistics after printing", defaultValue = "false")
+                           boolean reset) {
+        List<RetryStatistics.Snapshot> snapshots = retryStatistics.topOffenders(limit);
+        if (snapshots.isEmpty()) {
+            ansiConsole.cyan("No retries recorded").nl();
+        } else {
+            ansiConsole.yellow("%-60s %8s %8s %8s %8s %10s %12s  %s"
+                    .formatted("Method", "Calls", "Retries", "GiveUps", "Failures", "Att/Call", "Backoff",
+                            "SQL states")).nl();
+            snapshots.forEach(snapshot -> ansiConsole.cyan("%-60s %8d %8d %8d %8d %10.2f %12s  %s"
+                    .formatted(snapshot.method(),
+                            snapshot.calls(),
+                            snapshot.retries(),
+                            snapshot.giveUps(),
+                            snapshot.failures(),
+                            snapshot.attemptsPerCall(),
+                            snapshot.backoff(),
+                            snapshot.sqlStates())).nl());
+        }
+        if (reset) {
+            retryStatistics.reset();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.burpabet.common.shell;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.shell.standard.ShellCommandGroup;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import io.burpabet.common.jdbc.SqlProfiler;
+
+@ShellComponent
+@ShellCommandGroup(CommandGroups.ADMIN)
+public class SqlProfileCommand {
+    @Autowired
+    private SqlProfiler sqlProfiler;
+
+    @Autowired
+    private AnsiConsole ansiConsole;
+
+    @ShellMethod(value = "Print SQL statements by total time and transaction boundaries by round trips",
+            key = {"ss", "sql-stats"})
+    public void sqlStats(@ShellOption(help = "max number of entries", defaultValue = "10") int limit,
+                         @ShellOption(help = "max SQL text width", defaultValue = "80") int width,
+                         @ShellOption(help = "reset statistics after printing", defaultValue = "false")
+                         boolean reset) {
+        List<SqlProfiler.StatementSnapshot> statements = sqlProfiler.topStatements(limit);
+        if (statements.isEmpty()) {
+            ansiConsole.cyan("No statements recorded").nl();
+        } else {
+            ansiConsole.yellow("%-" + width + "s %8s %6s %10s %10s %10s %10s %10s %12s"
+                    .formatted("Statement", "Calls", "Errors", "Rows", "Mean", "P50", "P99", "Max", "Total")).nl();
+            statements.forEach(snapshot -> ansiConsole.cyan(("%-" + width + "s %8d %6d %10d %10s %10s %10s %10s %12s")
+                    .formatted(abbreviate(snapshot.sql(), width),
+                            snapshot.calls(),
+                            snapshot.errors(),
+                            snapshot.rows(),
+                            snapshot.mean(),
+                            snapshot.p50(),
+                            snapshot.p99(),
+                            snapshot.max(),
+                            snapshot.totalTime())).nl());
+        }
+
+        List<SqlProfiler.BoundarySnapshot> boundaries = sqlProfiler.topBoundaries(limit);
+        if (!boundaries.isEmpty()) {
+            ansiConsole.yellow("%-60s %8s %10s %10s %8s"
+                    .formatted("Method", "Calls", "Trips", "Trips/Call", "Max")).nl();
+            boundaries.forEach(snapshot -> ansiConsole.cyan("%-60s %8d %10d %10.2f %8d"
+                    .formatted(snapshot.method(),
+                            snapshot.calls(),
+                            snapshot.roundTrips(),
+                            snapshot.roundTripsPerCall(),
+                            snapshot.maxRoundTrips())).nl());
+        }
+
+        if (reset) {
+            sqlProfiler.reset();
+        }
+    }
+
+    private static String abbreviate(String sql, int width) {
+        String s = sql.replaceAll("\\s+", " ");
+        return s.length() > width ? s.substring(0, width - 3) + "..." : s;
+    }
+}
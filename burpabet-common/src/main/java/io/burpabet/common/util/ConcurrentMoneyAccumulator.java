@@ -0,0 +1,64 @@
+package io.burpabet.common.util;
+
+import java.util.Currency;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, currency-checked running total of {@link Money} amounts backed by a
+ * striped {@link LongAdder} of minor units, for aggregations updated by many threads.
+ * <p>
+ * Unlike the {@link MoneyAccumulator}, the currency must be given up front and the
+ * striped cells are not checked for overflow.
+ */
+public class ConcurrentMoneyAccumulator {
+    private final Currency currency;
+
+    private final LongAdder units = new LongAdder();
+
+    public ConcurrentMoneyAccumulator(Currency currency) {
+        if (currency == null) {
+            throw new NullPointerException("currency is null");
+        }
+        this.currency = currency;
+    }
+
+    public void add(Money money) {
+        assertSameCurrency(money);
+        units.add(money.getMinorUnits());
+    }
+
+    public void subtract(Money money) {
+        assertSameCurrency(money);
+        units.add(-money.getMinorUnits());
+    }
+
+    public void reset() {
+        units.reset();
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return a snapshot of the total, which is not atomic with concurrent updates
+     */
+    public Money toMoney() {
+        return Money.ofMinorUnits(units.sum(), currency);
+    }
+
+    private void assertSameCurrency(Money money) {
+        if (money == null) {
+            throw new NullPointerException("money is null");
+        }
+        if (!currency.equals(money.getCurrency())) {
+            throw new IllegalArgumentException(
+                    currency + " doesn't match " + money.getCurrency());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toMoney().toString();
+    }
+}
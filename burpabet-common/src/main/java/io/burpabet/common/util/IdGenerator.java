@@ -0,0 +1,14 @@
+package io.burpabet.common.util;
+
+import java.util.UUID;
+
+/**
+ * Generator of unique identifiers for entities and journey events.
+ *
+ * @see RandomIdGenerator
+ * @see TimePrefixedIdGenerator
+ */
+@FunctionalInterface
+public interface IdGenerator {
+    UUID nextId();
+}
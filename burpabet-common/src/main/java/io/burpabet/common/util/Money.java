@@ -7,30 +7,45 @@ import java.util.Currency;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 
 /**
  * Immutable monetary type that couples an amount with a currency.
- * The amount value is represented by {@code java.math.BigDecimal} and the currency
- * by a ISO-4701 {@code java.aspect.Currency}.
+ * The amount value is represented by a long count of minor units (cents for USD)
+ * in the default fraction digits of the ISO-4217 {@code java.util.Currency}.
+ * Arithmetic is done on the long value with overflow checks, and the amount is
+ * only converted to a {@code java.math.BigDecimal} at the JPA and JSON boundaries
+ * through the {@code amount} property.
  */
 @Embeddable  // Support for JPA only (cant use final modifier)
+@Access(AccessType.PROPERTY)
 public class Money implements Serializable, Comparable<Money> {
     public static final Currency USD = Currency.getInstance("USD");
 
-    private static final BigDecimal ZERO = BigDecimal.ZERO;
-
-    private static final BigDecimal ONE = BigDecimal.ONE;
-
     private static final RoundingMode roundingMode = RoundingMode.HALF_EVEN;
 
-    private BigDecimal amount;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    private long units;
 
     private Currency currency;
 
+    // Amount set through JPA or JSON before the currency is known
+    private transient BigDecimal pendingAmount;
+
     protected Money() {
     }
 
+    private Money(long units, Currency currency) {
+        this.units = units;
+        this.currency = currency;
+    }
+
     /**
      * Creates a new Money instance.
      *
@@ -44,6 +59,11 @@ public class Money implements Serializable, Comparable<Money> {
         if (currency == null) {
             throw new NullPointerException("currency is null");
         }
+        this.units = toUnits(amount, currency);
+        this.currency = currency;
+    }
+
+    private static long toUnits(BigDecimal amount, Currency currency) {
         if (amount.scale() != currency.getDefaultFractionDigits()) {
             if (currency.getDefaultFractionDigits() == 0) {
                 amount = amount.setScale(0, RoundingMode.DOWN);
@@ -54,8 +74,7 @@ public class Money implements Serializable, Comparable<Money> {
                         + " != " + currency.getDefaultFractionDigits() + " for " + amount);
             }
         }
-        this.amount = amount;
-        this.currency = currency;
+        return amount.unscaledValue().longValueExact();
     }
 
     public static Money parse(String unit) {
@@ -82,75 +101,93 @@ public class Money implements Serializable, Comparable<Money> {
         return new Money(amount, Currency.getInstance(currency));
     }
 
+    /**
+     * Creates a new Money instance from a count of minor units, for example cents.
+     *
+     * @param units    the amount in minor units of the currency
+     * @param currency the currency (required)
+     */
+    public static Money ofMinorUnits(long units, Currency currency) {
+        if (currency == null) {
+            throw new NullPointerException("currency is null");
+        }
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("No minor units for currency: " + currency.getCurrencyCode());
+        }
+        return new Money(units, currency);
+    }
+
     public static Money zero(String currency) {
         return zero(Currency.getInstance(currency));
     }
 
     public static Money zero(Currency currency) {
-        BigDecimal amount = ZERO.setScale(currency.getDefaultFractionDigits(), RoundingMode.UNNECESSARY);
-        return new Money(amount, currency);
+        return ofMinorUnits(0, currency);
     }
 
     public Money plus(Money... addends) {
-        BigDecimal copy = BigDecimal.ZERO.add(amount);
+        long sum = units;
         for (Money add : addends) {
             assertSameCurrency(add);
-            copy = copy.add(add.amount);
+            sum = Math.addExact(sum, add.units);
         }
-        return new Money(copy, currency);
+        return new Money(sum, currency);
+    }
+
+    public Money plus(Money addend) {
+        assertSameCurrency(addend);
+        return new Money(Math.addExact(units, addend.units), currency);
     }
 
     public Money minus(Money... subtrahends) {
-        BigDecimal copy = BigDecimal.ZERO.add(amount);
+        long difference = units;
         for (Money subtrahend : subtrahends) {
             assertSameCurrency(subtrahend);
-            copy = copy.subtract(subtrahend.amount);
+            difference = Math.subtractExact(difference, subtrahend.units);
         }
-        return new Money(copy, currency);
+        return new Money(difference, currency);
+    }
+
+    public Money minus(Money subtrahend) {
+        assertSameCurrency(subtrahend);
+        return new Money(Math.subtractExact(units, subtrahend.units), currency);
     }
 
     public Money multiply(int multiplier) {
-        BigDecimal newAmount = amount.multiply(new BigDecimal(Integer.toString(multiplier)));
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        return new Money(Math.multiplyExact(units, multiplier), currency);
     }
 
     public Money multiply(double multiplier) {
-        BigDecimal newAmount = amount.multiply(new BigDecimal(Double.toString(multiplier)));
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        if (multiplier == Math.rint(multiplier) && Math.abs(multiplier) <= Integer.MAX_VALUE) {
+            return new Money(Math.multiplyExact(units, (long) multiplier), currency);
+        }
+        return multiply(BigDecimal.valueOf(multiplier));
     }
 
     public Money multiply(BigDecimal multiplier) {
         assertNotNull(multiplier);
-        BigDecimal newAmount = amount.multiply(multiplier);
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        return fromUnits(BigDecimal.valueOf(units).multiply(multiplier).setScale(0, roundingMode));
     }
 
     public Money divideAndRound(double divisor) {
-        BigDecimal newAmount = amount.divide(new BigDecimal(Double.toString(divisor)), 16, roundingMode);
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        if (divisor == Math.rint(divisor) && Math.abs(divisor) <= Integer.MAX_VALUE && divisor != 0) {
+            return new Money(divideHalfEven(units, (long) divisor), currency);
+        }
+        return fromUnits(BigDecimal.valueOf(units).divide(BigDecimal.valueOf(divisor), 16, roundingMode)
+                .setScale(0, roundingMode));
     }
 
     public Money divide(BigDecimal divisor) {
         assertNotNull(divisor);
-        BigDecimal newAmount = amount.divide(divisor, RoundingMode.UNNECESSARY);
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        return fromUnits(BigDecimal.valueOf(units).divide(divisor, RoundingMode.UNNECESSARY));
     }
 
     public Money divide(double divisor) {
-        BigDecimal newAmount = amount
-                .divide(new BigDecimal(Double.toString(divisor)), RoundingMode.UNNECESSARY);
-        newAmount = setScale(newAmount);
-        return new Money(newAmount, currency);
+        return divide(BigDecimal.valueOf(divisor));
     }
 
     public Money remainder(int divisor) {
-        return new Money(amount.remainder(
-                new BigDecimal(Integer.toString(divisor))), currency);
+        return new Money(units % Math.multiplyExact(divisor, unitsPerWhole()), currency);
     }
 
     public boolean isGreaterThan(Money right) {
@@ -174,21 +211,45 @@ public class Money implements Serializable, Comparable<Money> {
     }
 
     @JsonIgnore
+    @Transient
     public boolean isNegative() {
-        return amount.compareTo(ZERO) < 0;
+        return units < 0;
     }
 
     @JsonIgnore
+    @Transient
     public boolean isPositive() {
-        return amount.compareTo(ZERO) >= 0;
+        return units >= 0;
     }
 
     public boolean isSameCurrency(Money right) {
         return currency.equals(right.getCurrency());
     }
 
-    private BigDecimal setScale(BigDecimal bigDecimal) {
-        return bigDecimal.setScale(currency.getDefaultFractionDigits(), roundingMode);
+    private int fractionDigits() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    private long unitsPerWhole() {
+        return POWERS_OF_TEN[fractionDigits()];
+    }
+
+    private Money fromUnits(BigDecimal units) {
+        return new Money(units.longValueExact(), currency);
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twice = Math.abs(remainder) * 2;
+        long abs = Math.abs(divisor);
+        if (twice > abs || (twice == abs && (quotient & 1) != 0)) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
     }
 
     private void assertSameCurrency(Money right) {
@@ -206,20 +267,48 @@ public class Money implements Serializable, Comparable<Money> {
     }
 
     public Money negate() {
-        return new Money(amount.negate(), currency);
+        return new Money(Math.negateExact(units), currency);
     }
 
     public Currency getCurrency() {
         return currency;
     }
 
+    protected void setCurrency(Currency currency) {
+        this.currency = currency;
+        resolvePendingAmount();
+    }
+
     /**
      * Return the underlying monetary amount.
      *
      * @return the monetary amount
      */
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(units, fractionDigits());
+    }
+
+    protected void setAmount(BigDecimal amount) {
+        this.pendingAmount = amount;
+        resolvePendingAmount();
+    }
+
+    private void resolvePendingAmount() {
+        if (pendingAmount != null && currency != null) {
+            this.units = toUnits(pendingAmount, currency);
+            this.pendingAmount = null;
+        }
+    }
+
+    /**
+     * Return the monetary amount in minor units of the currency, for example cents.
+     *
+     * @return the monetary amount in minor units
+     */
+    @JsonIgnore
+    @Transient
+    public long getMinorUnits() {
+        return units;
     }
 
     /**
@@ -229,12 +318,15 @@ public class Money implements Serializable, Comparable<Money> {
      * {@inheritDoc}
      */
     public int compareTo(Money o) {
-        return amount.compareTo(o.amount);
+        if (fractionDigits() == o.fractionDigits()) {
+            return Long.compare(units, o.units);
+        }
+        return getAmount().compareTo(o.getAmount());
     }
 
     /**
      * Compares two money objects for equality. The money objects are
-     * compared by their underlying bigdecimal value and currency ISO code.
+     * compared by their underlying long value and currency ISO code.
      * <p/>
      * {@inheritDoc}
      */
@@ -249,7 +341,7 @@ public class Money implements Serializable, Comparable<Money> {
 
         Money money = (Money) o;
 
-        if (!amount.equals(money.amount)) {
+        if (units != money.units) {
             return false;
         }
         if (!currency.equals(money.currency)) {
@@ -261,13 +353,13 @@ public class Money implements Serializable, Comparable<Money> {
 
     @Override
     public int hashCode() {
-        int result = amount.hashCode();
+        int result = Long.hashCode(units);
         result = 31 * result + currency.hashCode();
         return result;
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency;
+        return getAmount() + " " + currency;
     }
 }
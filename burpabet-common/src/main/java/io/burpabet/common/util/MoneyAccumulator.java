@@ -0,0 +1,92 @@
+package io.burpabet.common.util;
+
+import java.util.Currency;
+
+/**
+ * Mutable, currency-checked running total of {@link Money} amounts for bulk aggregations,
+ * kept as a long count of minor units with overflow checks. Not thread-safe, see
+ * {@link ConcurrentMoneyAccumulator} for a concurrent variant.
+ * <p>
+ * The currency is either given up front or taken from the first amount added.
+ */
+public class MoneyAccumulator {
+    private Currency currency;
+
+    private long units;
+
+    private int count;
+
+    public MoneyAccumulator() {
+    }
+
+    public MoneyAccumulator(Currency currency) {
+        if (currency == null) {
+            throw new NullPointerException("currency is null");
+        }
+        this.currency = currency;
+    }
+
+    public MoneyAccumulator add(Money money) {
+        assertSameCurrency(money);
+        units = Math.addExact(units, money.getMinorUnits());
+        count++;
+        return this;
+    }
+
+    public MoneyAccumulator subtract(Money money) {
+        assertSameCurrency(money);
+        units = Math.subtractExact(units, money.getMinorUnits());
+        count++;
+        return this;
+    }
+
+    /**
+     * @return true if no amounts have been accumulated
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    /**
+     * @return the number of amounts accumulated
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return the total as an immutable money instance
+     * @throws IllegalStateException if the currency is not known
+     */
+    public Money toMoney() {
+        if (currency == null) {
+            throw new IllegalStateException("No currency for empty accumulator");
+        }
+        return Money.ofMinorUnits(units, currency);
+    }
+
+    private void assertSameCurrency(Money money) {
+        if (money == null) {
+            throw new NullPointerException("money is null");
+        }
+        if (currency == null) {
+            currency = money.getCurrency();
+        } else if (!currency.equals(money.getCurrency())) {
+            throw new IllegalArgumentException(
+                    currency + " doesn't match " + money.getCurrency());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return currency != null ? toMoney().toString() : "(empty)";
+    }
+}
@@ -0,0 +1,138 @@
+package io.burpabet.common.util;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Immutable fractional odds value type, for example 6/1 or 5/2, kept as an exact
+ * reduced fraction rather than a floating point number. The payout multiplier
+ * (stake plus winnings) is precomputed so that payouts for all bets on a race are
+ * computed with long arithmetic on the stake minor units and a single rounding.
+ */
+public final class Odds implements Serializable, Comparable<Odds> {
+    private final long numerator;
+
+    private final long denominator;
+
+    // Payout multiplier numerator, (numerator + denominator) / denominator
+    private final long payoutNumerator;
+
+    private Odds(long numerator, long denominator) {
+        if (numerator <= 0 || denominator <= 0) {
+            throw new IllegalArgumentException("Odds must be positive: " + numerator + "/" + denominator);
+        }
+        long gcd = gcd(numerator, denominator);
+        this.numerator = numerator / gcd;
+        this.denominator = denominator / gcd;
+        this.payoutNumerator = Math.addExact(this.numerator, this.denominator);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = b;
+            b = a % b;
+            a = t;
+        }
+        return a;
+    }
+
+    /**
+     * Creates fractional odds, for example {@code of(5, 2)} for 5/2.
+     */
+    public static Odds of(long numerator, long denominator) {
+        return new Odds(numerator, denominator);
+    }
+
+    /**
+     * Creates fractional odds from a decimal value, for example 2.5 for 5/2.
+     */
+    public static Odds of(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            return new Odds(stripped.longValueExact(), 1);
+        }
+        return new Odds(stripped.unscaledValue().longValueExact(),
+                BigDecimal.ONE.scaleByPowerOfTen(stripped.scale()).longValueExact());
+    }
+
+    @JsonCreator
+    public static Odds valueOf(double value) {
+        return of(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Parses fractional odds such as "5/2" or decimal values such as "2.5".
+     */
+    public static Odds parse(String odds) {
+        int idx = odds.indexOf('/');
+        if (idx > 0) {
+            return of(Long.parseLong(odds.substring(0, idx).trim()), Long.parseLong(odds.substring(idx + 1).trim()));
+        }
+        return of(new BigDecimal(odds.trim()));
+    }
+
+    public long getNumerator() {
+        return numerator;
+    }
+
+    public long getDenominator() {
+        return denominator;
+    }
+
+    /**
+     * Computes the payout of a winning stake, being the stake plus the winnings
+     * rounded half-even to the minor units of the stake currency.
+     *
+     * @param stake the stake
+     * @return the payout
+     */
+    public Money payout(Money stake) {
+        long units = stake.getMinorUnits();
+        if (denominator == 1) {
+            return Money.ofMinorUnits(Math.multiplyExact(units, payoutNumerator), stake.getCurrency());
+        }
+        long product = Math.multiplyExact(units, payoutNumerator);
+        long quotient = product / denominator;
+        long twice = Math.abs(product % denominator) * 2;
+        if (twice > denominator || (twice == denominator && (quotient & 1) != 0)) {
+            quotient += product < 0 ? -1 : 1;
+        }
+        return Money.ofMinorUnits(quotient, stake.getCurrency());
+    }
+
+    @JsonValue
+    public double doubleValue() {
+        return (double) numerator / denominator;
+    }
+
+    @Override
+    public int compareTo(Odds o) {
+        return Long.compare(Math.multiplyExact(numerator, o.denominator),
+                Math.multiplyExact(o.numerator, denominator));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Odds odds = (Odds) o;
+        return numerator == odds.numerator && denominator == odds.denominator;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(numerator) + Long.hashCode(denominator);
+    }
+
+    @Override
+    public String toString() {
+        return numerator + "/" + denominator;
+    }
+}
@@ -0,0 +1,20 @@
+package io.burpabet.common.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random (version 4) UUIDs from thread-local entropy rather than the shared
+ * {@code SecureRandom} used by {@link UUID#randomUUID()}, which contends under many
+ * threads. The ids are unique but not unpredictable, which is fine for internal keys
+ * that are not used as secrets.
+ */
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,86 @@
+package io.burpabet.common.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.burpabet.common.domain.BetPlacement;
+import io.burpabet.common.domain.BetPlacementEvent;
+import io.burpabet.common.domain.BetType;
+import io.burpabet.common.domain.EventType;
+import io.burpabet.common.domain.Jurisdiction;
+import io.burpabet.common.domain.Status;
+import io.burpabet.common.util.Money;
+
+public class BinaryPayloadCodecTest {
+    @Test
+    public void whenEncodingPlacement_expectRoundTrip() {
+        BetPlacement placement = new BetPlacement();
+        placement.setEventId(UUID.randomUUID());
+        placement.setEntityId(UUID.randomUUID());
+        placement.setStatus(Status.APPROVED);
+        placement.setStatusDetail("Within spending budget");
+        placement.setOrigin("wallet-service");
+        placement.setJurisdiction(Jurisdiction.SE);
+        placement.setCustomerId(UUID.randomUUID());
+        placement.setCustomerName("Alice");
+        placement.setRaceId(UUID.randomUUID());
+        placement.setStake(Money.of("12.50", Money.USD));
+        placement.setBetType(BetType.each_way);
+        placement.setOutboxTime(Instant.now());
+
+        BetPlacementEvent event = new BetPlacementEvent(placement.getEventId(), EventType.insert, placement);
+        event.setAggregateId(placement.getEntityId());
+
+        BinaryPayloadCodec codec = new BinaryPayloadCodec();
+        byte[] data = codec.encode(event);
+
+        Assertions.assertTrue(BinaryPayloadCodec.isBinary(data));
+
+        BetPlacementEvent copy = codec.decode(data, BetPlacementEvent.class);
+        Assertions.assertEquals(event.getEventId(), copy.getEventId());
+        Assertions.assertEquals(event.getAggregateId(), copy.getAggregateId());
+        Assertions.assertEquals(EventType.insert, copy.getEventType());
+
+        BetPlacement payload = copy.getPayload();
+        Assertions.assertEquals(placement.getEntityId(), payload.getEntityId());
+        Assertions.assertEquals(Status.APPROVED, payload.getStatus());
+        Assertions.assertEquals("Within spending budget", payload.getStatusDetail());
+        Assertions.assertEquals("wallet-service", payload.getOrigin());
+        Assertions.assertEquals(Jurisdiction.SE, payload.getJurisdiction());
+        Assertions.assertEquals("Alice", payload.getCustomerName());
+        Assertions.assertEquals(placement.getRaceId(), payload.getRaceId());
+        Assertions.assertEquals(Money.of("12.50", Money.USD), payload.getStake());
+        Assertions.assertEquals(BetType.each_way, payload.getBetType());
+        Assertions.assertEquals(placement.getOutboxTime(), payload.getOutboxTime());
+    }
+
+    @Test
+    public void whenDecodingUnknownEnumOrdinal_expectSerializationException() {
+        BetPlacement placement = new BetPlacement();
+        placement.setEventId(UUID.randomUUID());
+        placement.setEntityId(UUID.randomUUID());
+        placement.setStatus(Status.PENDING);
+
+        BetPlacementEvent event = new BetPlacementEvent(placement.getEventId(), EventType.insert, placement);
+        event.setAggregateId(placement.getEntityId());
+
+        BinaryPayloadCodec codec = new BinaryPayloadCodec();
+        byte[] data = codec.encode(event);
+
+        // Header (3 bytes) and two non-null UUIDs (17 bytes each) precede the event type ordinal
+        int eventTypeOffset = 3 + 17 + 17;
+        Assertions.assertEquals(EventType.insert.ordinal(), data[eventTypeOffset]);
+
+        data[eventTypeOffset] = 99;
+        Assertions.assertThrows(SerializationException.class,
+                () -> codec.decode(data, BetPlacementEvent.class));
+
+        data[eventTypeOffset] = -5;
+        Assertions.assertThrows(SerializationException.class,
+                () -> codec.decode(data, BetPlacementEvent.class));
+    }
+}
@@ -0,0 +1,15 @@
+package io.burpabet.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+public class ConcurrentMoneyAccumulatorTest {
+    @Test
+    public void whenAccumulatingConcurrently_expectExactTotal() {
+        ConcurrentMoneyAccumulator total = new ConcurrentMoneyAccumulator(Money.USD);
+        IntStream.range(0, 1000).parallel().forEach(i -> total.add(Money.of("0.01", Money.USD)));
+        Assertions.assertEquals(Money.of("10.00", Money.USD), total.toMoney());
+    }
+}
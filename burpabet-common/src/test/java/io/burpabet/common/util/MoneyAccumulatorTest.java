@@ -0,0 +1,20 @@
+package io.burpabet.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+public class MoneyAccumulatorTest {
+    @Test
+    public void whenAccumulating_expectCurrencyCheckedTotal() {
+        MoneyAccumulator total = new MoneyAccumulator();
+        Assertions.assertTrue(total.isEmpty());
+
+        total.add(Money.of("10.50", Money.USD)).add(Money.of("0.75", Money.USD)).subtract(Money.of("1.25", Money.USD));
+        Assertions.assertEquals(Money.of("10.00", Money.USD), total.toMoney());
+        Assertions.assertEquals(3, total.getCount());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> total.add(Money.of("1.00", Currency.getInstance("EUR"))));
+    }
+}
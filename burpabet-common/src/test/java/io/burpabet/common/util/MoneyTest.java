@@ -0,0 +1,45 @@
+package io.burpabet.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+public class MoneyTest {
+    @Test
+    public void whenDoingArithmetic_expectMinorUnitsPrecision() {
+        Money a = Money.of("10.50", Money.USD);
+        Money b = Money.of("0.75", Money.USD);
+
+        Assertions.assertEquals(Money.of("11.25", Money.USD), a.plus(b));
+        Assertions.assertEquals(Money.of("12.00", Money.USD), a.plus(b, b));
+        Assertions.assertEquals(Money.of("9.75", Money.USD), a.minus(b));
+        Assertions.assertEquals(Money.of("31.50", Money.USD), a.multiply(3));
+        Assertions.assertEquals(Money.of("15.75", Money.USD), a.multiply(1.5));
+        Assertions.assertEquals(Money.of("3.50", Money.USD), a.divideAndRound(3));
+        Assertions.assertEquals(Money.of("0.12", Money.USD), Money.of("0.25", Money.USD).divideAndRound(2));
+        Assertions.assertEquals(Money.of("4.20", Money.USD), a.divide(new BigDecimal("2.5")));
+        Assertions.assertEquals(Money.of("1.50", Money.USD), a.remainder(3));
+        Assertions.assertEquals(Money.of("-10.50", Money.USD), a.negate());
+        Assertions.assertEquals(1050, a.getMinorUnits());
+        Assertions.assertEquals(new BigDecimal("10.50"), a.getAmount());
+        Assertions.assertEquals("10.50 USD", a.toString());
+        Assertions.assertTrue(a.isGreaterThan(b));
+        Assertions.assertEquals(Money.zero(Money.USD), Money.ofMinorUnits(0, Money.USD));
+    }
+
+    @Test
+    public void whenOverflowing_expectArithmeticException() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE, Money.USD);
+        Assertions.assertThrows(ArithmeticException.class, () -> max.plus(Money.of("0.01", Money.USD)));
+        Assertions.assertThrows(ArithmeticException.class, () -> max.multiply(2));
+    }
+
+    @Test
+    public void whenMixingCurrencies_expectIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Money.of("1.00", Money.USD).plus(Money.of("1.00", Currency.getInstance("EUR"))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Money.of("1.0", Money.USD));
+    }
+}
@@ -0,0 +1,24 @@
+package io.burpabet.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OddsTest {
+    @Test
+    public void whenPayingOutOdds_expectExactHalfEvenPayout() {
+        Money stake = Money.of("10.25", Money.USD);
+
+        Assertions.assertEquals(Money.of("71.75", Money.USD), Odds.valueOf(6.0).payout(stake));
+        Assertions.assertEquals(Money.of("35.88", Money.USD), Odds.parse("5/2").payout(stake));
+        Assertions.assertEquals(Money.of("35.88", Money.USD), Odds.valueOf(2.5).payout(stake));
+        Assertions.assertEquals(Money.of("0.02", Money.USD), Odds.of(1, 2).payout(Money.of("0.01", Money.USD)));
+        Assertions.assertEquals(Money.of("0.04", Money.USD), Odds.of(1, 2).payout(Money.of("0.03", Money.USD)));
+    }
+
+    @Test
+    public void whenCreatingOdds_expectNormalizedFraction() {
+        Assertions.assertEquals(Odds.of(5, 2), Odds.valueOf(2.5));
+        Assertions.assertEquals(2.5, Odds.of(10, 4).doubleValue());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Odds.of(0, 1));
+    }
+}
@@ -2,17 +2,36 @@ package io.burpabet.customer.config;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.burpabet.common.kafka.PoolBackpressureController;
+
 @Configuration
 public class AsyncConfiguration {
     @Bean
-    public Executor taskExecutor() {
+    public Executor taskExecutor(Environment environment,
+                                 ObjectProvider<PoolBackpressureController> poolBackpressureController) {
+        PoolBackpressureController backpressure = poolBackpressureController.getIfAvailable();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ksender-");
+            executor.setVirtualThreads(true);
+            if (backpressure != null) {
+                executor.setTaskDecorator(backpressure);
+            }
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(15);
         executor.setThreadNamePrefix("ksender-");
+        if (backpressure != null) {
+            executor.setTaskDecorator(backpressure);
+        }
         executor.initialize();
         return executor;
     }
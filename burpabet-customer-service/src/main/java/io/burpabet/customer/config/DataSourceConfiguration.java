@@ -1,9 +1,17 @@
 package io.burpabet.customer.config;
 
 import com.zaxxer.hikari.HikariDataSource;
-import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
-import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import io.burpabet.common.jdbc.ProfilingDataSource;
+import io.burpabet.common.jdbc.SqlProfiler;
+import io.burpabet.common.jdbc.SqlProfilerEndpoint;
+import io.burpabet.common.jpa.ReadWriteRoutingDataSource;
+import org.flywaydb.core.api.Location;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
@@ -12,9 +20,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 public class DataSourceConfiguration {
@@ -23,6 +35,12 @@ public class DataSourceConfiguration {
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Value("${spring.datasource.read.url:}")
+    private String readUrl;
+
+    @Value("${app.sql-profiler.enabled:true}")
+    private boolean sqlProfilerEnabled;
+
     @Bean
     @Primary
     @ConfigurationProperties("spring.datasource")
@@ -33,9 +51,12 @@ public class DataSourceConfiguration {
     @Bean
     @Primary
     @Lazy
-    public DataSource primaryDataSource() {
+    public DataSource primaryDataSource(@Qualifier("readDataSource") ObjectProvider<HikariDataSource> readDataSource) {
+        HikariDataSource readPool = readDataSource.getIfAvailable();
         LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
-        proxy.setTargetDataSource(loggingProxy(targetDataSource()));
+        proxy.setTargetDataSource(profilingProxy(readPool != null
+                ? new ReadWriteRoutingDataSource(targetDataSource(), readPool)
+                : targetDataSource()));
         proxy.setDefaultAutoCommit(true);
         proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
         return proxy;
@@ -53,13 +74,51 @@ public class DataSourceConfiguration {
         return ds;
     }
 
-    private DataSource loggingProxy(DataSource dataSource) {
-        return ProxyDataSourceBuilder
-                .create(dataSource)
-                .name("SQL-Trace")
-                .countQuery()
-                .multiline()
-                .logQueryBySlf4j(SLF4JLogLevel.TRACE, SQL_TRACE_LOGGER)
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.read.enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.read.hikari")
+    public HikariDataSource readDataSource() {
+        HikariDataSource ds = dataSourceProperties()
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
                 .build();
+        if (StringUtils.hasLength(readUrl)) {
+            ds.setJdbcUrl(readUrl);
+        }
+        ds.addDataSourceProperty("ApplicationName", applicationContext.getApplicationName());
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.sql-profiler")
+    public SqlProfiler sqlProfiler() {
+        return new SqlProfiler();
+    }
+
+    @Bean
+    public SqlProfilerEndpoint sqlProfilerEndpoint() {
+        return new SqlProfilerEndpoint(sqlProfiler());
+    }
+
+    /**
+     * Adds the changefeed migrations unless the polling outbox relay is enabled,
+     * since both would publish every outbox event.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer changefeedMigrationCustomizer(
+            @Value("${app.outbox.relay.enabled:false}") boolean relayEnabled) {
+        return configuration -> {
+            if (!relayEnabled) {
+                List<Location> locations = new ArrayList<>(Arrays.asList(configuration.getLocations()));
+                locations.add(new Location("classpath:db/changefeed"));
+                configuration.locations(locations.toArray(new Location[0]));
+            }
+        };
+    }
+
+    private DataSource profilingProxy(DataSource dataSource) {
+        return sqlProfilerEnabled
+                ? new ProfilingDataSource(dataSource, sqlProfiler(), SQL_TRACE_LOGGER)
+                : dataSource;
     }
 }
@@ -12,21 +12,33 @@ import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.StreamJoined;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafkaStreams;
 import org.springframework.kafka.config.TopicBuilder;
-import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import io.burpabet.common.aspect.RetryBudget;
 import io.burpabet.common.domain.RegistrationEvent;
 import io.burpabet.common.domain.TopicNames;
+import io.burpabet.common.kafka.KafkaBackpressureConfiguration;
+import io.burpabet.common.kafka.KafkaRetryConfiguration;
+import io.burpabet.common.kafka.OutboxLagInterceptor;
+import io.burpabet.common.kafka.RetryBudgetInterceptor;
+import io.burpabet.common.outbox.OutboxRelayConfiguration;
+import io.burpabet.common.serde.OutboxEventSerde;
 import io.burpabet.customer.service.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @EnableKafkaStreams
 @EnableAsync
 @Configuration
+@Import({KafkaRetryConfiguration.class, OutboxRelayConfiguration.class, KafkaBackpressureConfiguration.class})
 public class KafkaConfiguration {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -59,7 +71,7 @@ public class KafkaConfiguration {
 
     @Bean
     public KStream<String, RegistrationEvent> registrationStream(StreamsBuilder builder) {
-        JsonSerde<RegistrationEvent> registrationSerde = new JsonSerde<>(RegistrationEvent.class);
+        OutboxEventSerde<RegistrationEvent> registrationSerde = new OutboxEventSerde<>(RegistrationEvent.class);
 
         KStream<String, RegistrationEvent> walletStream = builder
                 .stream(TopicNames.WALLET_REGISTRATION, Consumed.with(Serdes.String(), registrationSerde));
@@ -80,4 +92,16 @@ public class KafkaConfiguration {
 
         return walletStream;
     }
+
+    @Bean
+    public RecordInterceptor<Object, Object> recordInterceptor(MeterRegistry meterRegistry,
+                                                               ObjectProvider<RetryBudget> retryBudget) {
+        OutboxLagInterceptor outboxLagInterceptor = new OutboxLagInterceptor(meterRegistry);
+        // Boot only applies a single interceptor bean to the listener container factory
+        RetryBudget budget = retryBudget.getIfAvailable();
+        if (budget != null) {
+            return new CompositeRecordInterceptor<>(outboxLagInterceptor, new RetryBudgetInterceptor(budget));
+        }
+        return outboxLagInterceptor;
+    }
 }
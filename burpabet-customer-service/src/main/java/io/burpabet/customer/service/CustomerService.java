@@ -55,7 +55,7 @@ public class CustomerService {
         outboxRepository.deleteAllInBatch();
     }
 
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ, cacheable = true))
     public Page<Customer> findAll(Pageable pageable) {
         return customerRepository.findAll(pageable);
     }
@@ -8,6 +8,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import io.burpabet.common.util.Money;
 
 public class SimpleSpendingLimit implements SpendingLimit {
+    // Not synchronized, which would pin virtual threads to their carrier
     private final Lock lock = new ReentrantLock();
 
     private final Money limitForPeriod;
@@ -37,8 +38,8 @@ public class SimpleSpendingLimit implements SpendingLimit {
 
     @Override
     public boolean acquirePermission(Money amount) {
+        lock.lock();
         try {
-            lock.lock();
             if (LocalDateTime.now().isAfter(nextPeriodStart())) {
                 budgetForPeriod = limitForPeriod;
                 periodStart = LocalDateTime.now();
@@ -55,8 +56,8 @@ public class SimpleSpendingLimit implements SpendingLimit {
 
     @Override
     public void releasePermission(Money amount) {
+        lock.lock();
         try {
-            lock.lock();
             budgetForPeriod = limitForPeriod;
             periodStart = LocalDateTime.now();
             budgetForPeriod = budgetForPeriod.plus(amount);
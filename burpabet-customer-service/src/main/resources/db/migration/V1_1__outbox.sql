@@ -1,45 +1,54 @@
--- From a performance standpoint there should be one outbox table per aggregate that
--- will reduce the number of change feeds per range. In this demo however, there's
--- only one outbox table with a discriminator column for the aggregate type.
+-- One outbox table per aggregate type, each with its own changefeed. This keeps the
+-- number of changefeeds scanning each range down to one and avoids write contention
+-- across journeys on the same ranges.
+--
+-- The keys, journey status and payload type are written as typed columns by the
+-- application so that inserts don't parse the JSON payload, and so that changefeeds
+-- and diagnostic queries can filter on them without JSON extraction.
+--
+-- The insertion order index is used by the optional polling outbox relay when
+-- running without changefeeds. The changefeeds are created by the migrations in
+-- db/changefeed, which are skipped when the relay is enabled.
 
-create table if not exists outbox
+create table if not exists outbox_registration
 (
-    id             uuid as ((payload ->> 'eventId')::UUID) stored,
-    aggregate_id   uuid as ((payload ->> 'entityId')::UUID) stored,
-    aggregate_type varchar(32) not null,
-    payload        jsonb       not null,
+    id           uuid        not null,
+    aggregate_id uuid        null,
+    status       varchar(32) null,
+    payload_type varchar(32) not null,
+    payload      jsonb       not null,
+    inserted_at  timestamptz not null default clock_timestamp(),
 
-    primary key (id)
+    primary key (id),
+    index outbox_registration_inserted_at_idx (inserted_at, id) using hash
 );
 
-alter table outbox set (ttl_expire_after = '1 hour');
+create table if not exists outbox_placement
+(
+    id           uuid        not null,
+    aggregate_id uuid        null,
+    status       varchar(32) null,
+    payload_type varchar(32) not null,
+    payload      jsonb       not null,
+    inserted_at  timestamptz not null default clock_timestamp(),
 
-create changefeed into '${cdc-sink-url}?topic_name=registration'
-with diff
-         as select id           as event_id,
-                   aggregate_id as aggregate_id,
-                   event_op()   as event_type,
-                   payload
-            from outbox
-            where event_op() != 'delete'
-              and aggregate_type = 'registration';
+    primary key (id),
+    index outbox_placement_inserted_at_idx (inserted_at, id) using hash
+);
 
-create changefeed into '${cdc-sink-url}?topic_name=customer-placement'
-with diff
-         as select id           as event_id,
-                   aggregate_id as aggregate_id,
-                   event_op()   as event_type,
-                   payload
-            from outbox
-            where event_op() != 'delete'
-              and aggregate_type = 'placement';
+create table if not exists outbox_settlement
+(
+    id           uuid        not null,
+    aggregate_id uuid        null,
+    status       varchar(32) null,
+    payload_type varchar(32) not null,
+    payload      jsonb       not null,
+    inserted_at  timestamptz not null default clock_timestamp(),
+
+    primary key (id),
+    index outbox_settlement_inserted_at_idx (inserted_at, id) using hash
+);
 
-create changefeed into '${cdc-sink-url}?topic_name=customer-settlement'
-with diff
-         as select id           as event_id,
-                   aggregate_id as aggregate_id,
-                   event_op()   as event_type,
-                   payload
-            from outbox
-            where event_op() != 'delete'
-              and aggregate_type = 'settlement';
+alter table outbox_registration set (ttl_expire_after = '1 hour');
+alter table outbox_placement set (ttl_expire_after = '1 hour');
+alter table outbox_settlement set (ttl_expire_after = '1 hour');
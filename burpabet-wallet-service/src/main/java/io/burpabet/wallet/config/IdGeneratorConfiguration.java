@@ -0,0 +1,23 @@
+package io.burpabet.wallet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.burpabet.common.util.IdGenerator;
+import io.burpabet.common.util.RandomIdGenerator;
+import io.burpabet.common.util.TimePrefixedIdGenerator;
+
+@Configuration
+public class IdGeneratorConfiguration {
+    @Value("${app.ids.time-prefixed}")
+    private boolean timePrefixed;
+
+    @Value("${app.ids.shard-bits}")
+    private int shardBits;
+
+    @Bean
+    public IdGenerator idGenerator() {
+        return timePrefixed ? new TimePrefixedIdGenerator(shardBits) : new RandomIdGenerator();
+    }
+}
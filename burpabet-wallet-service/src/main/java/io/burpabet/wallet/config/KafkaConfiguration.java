@@ -1,15 +1,27 @@
 package io.burpabet.wallet.config;
 
+import io.burpabet.common.aspect.RetryBudget;
+import io.burpabet.common.kafka.KafkaBackpressureConfiguration;
+import io.burpabet.common.kafka.KafkaRetryConfiguration;
+import io.burpabet.common.kafka.OutboxLagInterceptor;
+import io.burpabet.common.kafka.RetryBudgetInterceptor;
+import io.burpabet.common.outbox.OutboxRelayConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 
 @Configuration
 @EnableKafka
+@Import({KafkaRetryConfiguration.class, OutboxRelayConfiguration.class, KafkaBackpressureConfiguration.class})
 public class KafkaConfiguration {
     @Autowired
     private KafkaProperties properties;
@@ -25,4 +37,16 @@ public class KafkaConfiguration {
     public AdminClient kafkaAdminClient() {
         return AdminClient.create(kafkaAdmin().getConfigurationProperties());
     }
+
+    @Bean
+    public RecordInterceptor<Object, Object> recordInterceptor(MeterRegistry meterRegistry,
+                                                               ObjectProvider<RetryBudget> retryBudget) {
+        OutboxLagInterceptor outboxLagInterceptor = new OutboxLagInterceptor(meterRegistry);
+        // Boot only applies a single interceptor bean to the listener container factory
+        RetryBudget budget = retryBudget.getIfAvailable();
+        if (budget != null) {
+            return new CompositeRecordInterceptor<>(outboxLagInterceptor, new RetryBudgetInterceptor(budget));
+        }
+        return outboxLagInterceptor;
+    }
 }
@@ -9,6 +9,8 @@ import org.springframework.context.annotation.Configuration;
 
 import io.burpabet.common.shell.ExitCommand;
 import io.burpabet.common.shell.JurisdictionValueProvider;
+import io.burpabet.common.shell.RetryCommand;
+import io.burpabet.common.shell.SqlProfileCommand;
 import io.burpabet.common.shell.ToggleCommand;
 
 import org.springframework.context.annotation.Lazy;
@@ -25,6 +27,16 @@ public class ShellConfiguration {
         return new ToggleCommand();
     }
 
+    @Bean
+    public RetryCommand retryCommand() {
+        return new RetryCommand();
+    }
+
+    @Bean
+    public SqlProfileCommand sqlProfileCommand() {
+        return new SqlProfileCommand();
+    }
+
     @Bean
     public JurisdictionValueProvider jurisdictionValueProvider() {
         return new JurisdictionValueProvider();
@@ -2,6 +2,9 @@ package io.burpabet.wallet.config;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -10,13 +13,20 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import io.burpabet.common.aspect.AdvisorOrder;
+import io.burpabet.common.aspect.AdaptiveRetryHandler;
 import io.burpabet.common.aspect.ExponentialBackoffRetryHandler;
+import io.burpabet.common.aspect.FlightRecorderAspect;
+import io.burpabet.common.aspect.FollowerReadCacheAspect;
 import io.burpabet.common.aspect.OutboxAspect;
 import io.burpabet.common.aspect.RetryHandler;
+import io.burpabet.common.aspect.RetryStatistics;
+import io.burpabet.common.aspect.SqlProfilerAspect;
+import io.burpabet.common.aspect.TransactionBoundaryAttributeSource;
 import io.burpabet.common.aspect.TransactionDecoratorAspect;
 import io.burpabet.common.aspect.TransactionRetryAspect;
+import io.burpabet.common.jdbc.SqlProfiler;
 import io.burpabet.common.outbox.OutboxJdbcRepository;
-import io.burpabet.common.outbox.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.burpabet.wallet.WalletApplication;
 
 @Configuration
@@ -25,7 +35,8 @@ import io.burpabet.wallet.WalletApplication;
 @EnableJpaAuditing
 public class TransactionConfiguration {
     @Bean
-    public OutboxRepository outboxRepository() {
+    @ConfigurationProperties("app.outbox")
+    public OutboxJdbcRepository outboxRepository() {
         return new OutboxJdbcRepository();
     }
 
@@ -35,17 +46,44 @@ public class TransactionConfiguration {
     }
 
     @Bean
-    public RetryHandler retryHandler() {
-        return new ExponentialBackoffRetryHandler();
+    @ConfigurationProperties("app.follower-read-cache")
+    public FollowerReadCacheAspect followerReadCacheAspect(MeterRegistry meterRegistry) {
+        return new FollowerReadCacheAspect(meterRegistry);
     }
 
     @Bean
-    public TransactionRetryAspect transactionRetryAspect(RetryHandler retryHandler) {
-        return new TransactionRetryAspect(retryHandler);
+    @ConfigurationProperties("app.retry")
+    public RetryHandler retryHandler(@Value("${app.retry.adaptive.enabled:false}") boolean adaptive) {
+        return adaptive ? new AdaptiveRetryHandler() : new ExponentialBackoffRetryHandler();
+    }
+
+    @Bean
+    public RetryStatistics retryStatistics(MeterRegistry meterRegistry) {
+        return new RetryStatistics(meterRegistry);
+    }
+
+    @Bean
+    public SqlProfilerAspect sqlProfilerAspect(SqlProfiler sqlProfiler) {
+        return new SqlProfilerAspect(sqlProfiler);
+    }
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    @Bean
+    public TransactionRetryAspect transactionRetryAspect(RetryHandler retryHandler, RetryStatistics retryStatistics) {
+        return new TransactionRetryAspect(retryHandler, retryStatistics);
     }
 
     @Bean
     public TransactionDecoratorAspect transactionDecoratorAspect(DataSource dataSource) {
         return new TransactionDecoratorAspect(new JdbcTemplate(dataSource));
     }
+
+    @Bean
+    public static BeanPostProcessor transactionBoundaryAttributeSourcePostProcessor() {
+        return TransactionBoundaryAttributeSource.postProcessor();
+    }
 }
@@ -5,7 +5,9 @@ import io.burpabet.common.annotations.ServiceFacade;
 import io.burpabet.common.annotations.TransactionBoundary;
 import io.burpabet.common.domain.Jurisdiction;
 import io.burpabet.common.outbox.OutboxRepository;
+import io.burpabet.common.util.IdGenerator;
 import io.burpabet.common.util.Money;
+import io.burpabet.common.util.MoneyAccumulator;
 import io.burpabet.wallet.model.CustomerAccount;
 import io.burpabet.wallet.model.OperatorAccount;
 import io.burpabet.wallet.repository.CustomerAccountRepository;
@@ -22,7 +24,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -50,6 +51,9 @@ public class BatchService {
     @Autowired
     private TransactionTemplate transactionTemplate;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
     @TransactionBoundary
     public void deleteAllInBatch() {
         transactionItemRepository.deleteAllInBatch();
@@ -119,12 +123,12 @@ public class BatchService {
     @Retryable
     public Money grantBonus(OperatorAccount operatorAccount, Money grant) {
         TransferRequest.Builder requestBuilder = TransferRequest.builder()
-                .withId(UUID.randomUUID())
+                .withId(idGenerator.nextId())
                 .withJurisdiction(operatorAccount.getJurisdiction())
                 .withTransactionType("extra-bonus")
                 .withBookingDate(LocalDate.now());
 
-        AtomicReference<Money> total = new AtomicReference<>(Money.zero(grant.getCurrency()));
+        MoneyAccumulator total = new MoneyAccumulator(grant.getCurrency());
 
         customerAccountRepository.findAllByOperatorId(operatorAccount.getId())
                 .forEach(customerAccount -> {
@@ -139,13 +143,14 @@ public class BatchService {
                             .withAmount(grant.negate())
                             .withNote("Bonus grant to " + customerAccount.getName())
                             .then();
-                    total.set(total.get().plus(grant));
+                    total.add(grant);
                 });
 
-        if (total.get().isGreaterThan(Money.zero(grant.getCurrency()))) {
+        Money totalGrant = total.toMoney();
+        if (totalGrant.isGreaterThan(Money.zero(grant.getCurrency()))) {
             transferService.submitTransferRequest(requestBuilder.build());
         }
 
-        return total.get();
+        return totalGrant;
     }
 }
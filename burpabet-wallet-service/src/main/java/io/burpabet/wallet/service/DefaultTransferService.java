@@ -1,6 +1,5 @@
 package io.burpabet.wallet.service;
 
-import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.HashMap;
 import java.util.List;
@@ -15,6 +14,7 @@ import org.springframework.data.util.Pair;
 import io.burpabet.common.annotations.ControlService;
 import io.burpabet.common.annotations.TransactionMandatory;
 import io.burpabet.common.util.Money;
+import io.burpabet.common.util.MoneyAccumulator;
 import io.burpabet.wallet.model.Account;
 import io.burpabet.wallet.model.Transaction;
 import io.burpabet.wallet.repository.AccountRepository;
@@ -84,28 +84,27 @@ public class DefaultTransferService implements TransferService {
     }
 
     private Map<UUID, Pair<Money, String>> coalesce(TransferRequest request) {
-        final Map<UUID, Pair<Money, String>> legs = new HashMap<>();
-        final Map<Currency, BigDecimal> amounts = new HashMap<>();
+        final Map<UUID, MoneyAccumulator> legAmounts = new HashMap<>();
+        final Map<UUID, String> legNotes = new HashMap<>();
+        final Map<Currency, MoneyAccumulator> amounts = new HashMap<>();
 
         // Compact accounts and verify that the total balance for the legs with the same currency is zero
         request.getAccountLegs().forEach(leg -> {
-            legs.compute(leg.getId(),
-                    (key, amount) -> (amount == null)
-                            ? Pair.of(leg.getAmount(), leg.getNote())
-                            : Pair.of(amount.getFirst().plus(leg.getAmount()), leg.getNote()));
-            amounts.compute(leg.getAmount().getCurrency(),
-                    (currency, amount) -> (amount == null)
-                            ? leg.getAmount().getAmount() : leg.getAmount().getAmount().add(amount));
+            legAmounts.computeIfAbsent(leg.getId(), key -> new MoneyAccumulator()).add(leg.getAmount());
+            legNotes.put(leg.getId(), leg.getNote());
+            amounts.computeIfAbsent(leg.getAmount().getCurrency(), MoneyAccumulator::new).add(leg.getAmount());
         });
 
         // The sum of debits for all accounts must equal the corresponding sum of credits (per currency)
         amounts.forEach((key, value) -> {
-            if (value.compareTo(BigDecimal.ZERO) != 0) {
+            if (!value.isZero()) {
                 throw new BadRequestException("Unbalanced transaction: currency ["
-                        + key + "], amount sum [" + value + "]");
+                        + key + "], amount sum [" + value.toMoney().getAmount() + "]");
             }
         });
 
+        final Map<UUID, Pair<Money, String>> legs = new HashMap<>();
+        legAmounts.forEach((id, amount) -> legs.put(id, Pair.of(amount.toMoney(), legNotes.get(id))));
         return legs;
     }
 }
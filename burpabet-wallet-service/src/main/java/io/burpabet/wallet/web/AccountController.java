@@ -68,7 +68,7 @@ public class AccountController {
     }
 
     @GetMapping(value = "/operator/{id}")
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.BOUNDED_STALENESS))
     public HttpEntity<EntityModel<OperatorAccount>> getOperatorAccount(@PathVariable("id") UUID id) {
         return ResponseEntity.ok(operatorAccountResourceAssembler.toModel(
                 operatorAccountRepository.findById(id).orElseThrow(() -> new NoSuchAccountException(id))));
@@ -84,7 +84,7 @@ public class AccountController {
     }
 
     @GetMapping(value = "/customer/{id}")
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.BOUNDED_STALENESS))
     public HttpEntity<EntityModel<CustomerAccount>> getCustomerAccount(@PathVariable("id") UUID id) {
         return ResponseEntity.ok(customerAccountResourceAssembler.toModel(
                 customerAccountRepository.findById(id).orElseThrow(() -> new NoSuchAccountException(id))));
@@ -98,7 +98,7 @@ public class AccountController {
     }
 
     @PatchMapping(value = "/{id}")
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary
     public ResponseEntity<?> updateAccount(@PathVariable("id") UUID id, @RequestBody Account account) {
         Account accountProxy = accountRepository.getReferenceById(id);
         accountProxy.setClosed(account.isClosed());
@@ -109,7 +109,7 @@ public class AccountController {
     }
 
     @DeleteMapping(value = "/{id}")
-    @TransactionBoundary(timeTravel = @TimeTravel(mode = TimeTravelMode.FOLLOWER_READ))
+    @TransactionBoundary
     public ResponseEntity<Void> deleteAccount(@PathVariable("id") UUID id) {
         accountRepository.deleteById(id);
         return ResponseEntity.ok().build();
@@ -0,0 +1,32 @@
+-- One changefeed per outbox table. Only applied when the polling outbox relay is
+-- disabled (app.outbox.relay.enabled), since both would publish every event.
+
+-- Response topic for registration journey
+create changefeed into '${cdc-sink-url}?topic_name=wallet-registration'
+with diff
+         as select id           as event_id,
+                   aggregate_id as aggregate_id,
+                   event_op()   as event_type,
+                   payload
+            from outbox_registration
+            where event_op() != 'delete';
+
+-- Response topic for placement journey
+create changefeed into '${cdc-sink-url}?topic_name=wallet-placement'
+with diff
+         as select id           as event_id,
+                   aggregate_id as aggregate_id,
+                   event_op()   as event_type,
+                   payload
+            from outbox_placement
+            where event_op() != 'delete';
+
+-- Response topic for settlement journey
+create changefeed into '${cdc-sink-url}?topic_name=wallet-settlement'
+with diff
+         as select id           as event_id,
+                   aggregate_id as aggregate_id,
+                   event_op()   as event_type,
+                   payload
+            from outbox_settlement
+            where event_op() != 'delete';
@@ -0,0 +1,143 @@
+package io.burpabet.wallet.web;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.burpabet.common.jpa.CockroachDBDialect;
+import io.burpabet.common.jpa.StaleReadStatementInspector;
+import io.burpabet.wallet.model.Account;
+import io.burpabet.wallet.model.CustomerAccount;
+import io.burpabet.wallet.model.OperatorAccount;
+
+/**
+ * Verifies the bounded staleness rewrite of the SQL Hibernate generates for the account
+ * lookups in {@link AccountController} that use bounded staleness. The SQL is captured
+ * by the statement inspector before Hibernate asks for a connection, so no database
+ * is needed.
+ */
+public class AccountStaleReadTest {
+    private static final String CLAUSE = "AS OF SYSTEM TIME with_max_staleness('30s')";
+
+    private static StandardServiceRegistry registry;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    public static void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", CockroachDBDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.connection.provider_class", NoConnectionProvider.class.getName())
+                .applySetting("hibernate.session_factory.statement_inspector",
+                        CapturingStatementInspector.class.getName())
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Account.class)
+                .addAnnotatedClass(OperatorAccount.class)
+                .addAnnotatedClass(CustomerAccount.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @BeforeEach
+    public void clear() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    public void whenGetOperatorAccount_expectBoundedStalenessClause() {
+        String sql = findById(OperatorAccount.class);
+        assertBoundedStaleness(sql);
+    }
+
+    @Test
+    public void whenGetCustomerAccount_expectBoundedStalenessClause() {
+        String sql = findById(CustomerAccount.class);
+        assertBoundedStaleness(sql);
+    }
+
+    @Test
+    public void whenNotBound_expectStatementUnchanged() {
+        try (Session session = sessionFactory.openSession()) {
+            Assertions.assertThrows(RuntimeException.class,
+                    () -> session.find(OperatorAccount.class, UUID.randomUUID()));
+        }
+        Assertions.assertEquals(1, CapturingStatementInspector.STATEMENTS.size());
+        Assertions.assertFalse(CapturingStatementInspector.STATEMENTS.get(0).contains("AS OF SYSTEM TIME"));
+    }
+
+    private static String findById(Class<? extends Account> type) {
+        String previous = StaleReadStatementInspector.bind(CLAUSE);
+        try (Session session = sessionFactory.openSession()) {
+            Assertions.assertThrows(RuntimeException.class, () -> session.find(type, UUID.randomUUID()));
+        } finally {
+            StaleReadStatementInspector.restore(previous);
+        }
+        Assertions.assertEquals(1, CapturingStatementInspector.STATEMENTS.size());
+        return CapturingStatementInspector.STATEMENTS.get(0);
+    }
+
+    private static void assertBoundedStaleness(String sql) {
+        Assertions.assertTrue(sql.contains(" from account "), sql);
+        Assertions.assertTrue(sql.contains(CLAUSE + " where "), sql);
+        Assertions.assertFalse(sql.contains(StaleReadStatementInspector.FOLLOWER_READ_CLAUSE), sql);
+    }
+
+    public static class CapturingStatementInspector extends StaleReadStatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String inspected = super.inspect(sql);
+            STATEMENTS.add(inspected);
+            return inspected;
+        }
+    }
+
+    public static class NoConnectionProvider implements ConnectionProvider {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("No database");
+        }
+
+        @Override
+        public void closeConnection(Connection connection) {
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return false;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            return null;
+        }
+    }
+}